@@ -0,0 +1,51 @@
+package com.eleodorodev.specification;
+
+import com.eleodorodev.specification.enums.Aggregate;
+import com.eleodorodev.specification.exception.DynamicParamArgumentException;
+
+import java.util.Locale;
+
+/**
+ * DynamicFacet
+ *
+ * @param attribute attribute used to group the results, nested ones separated by dot Ex.("city.state")
+ * @param aggregate aggregate function calculated for each group
+ * @param measure   attribute aggregated by the function, not used by {@link Aggregate#COUNT}
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ * @apiNote A facet calculated by {@link DynamicRepository#facets} under a dynamic filter
+ */
+public record DynamicFacet(String attribute, Aggregate aggregate, String measure) {
+
+    public static DynamicFacet count(String attribute) {
+        return new DynamicFacet(attribute, Aggregate.COUNT, null);
+    }
+
+    public static DynamicFacet of(String attribute, Aggregate aggregate, String measure) {
+        return new DynamicFacet(attribute, aggregate, measure);
+    }
+
+    /**
+     * Parses a facet in the {@code attribute} or {@code attribute:aggregate:measure} format Ex.("country:sum:population")
+     *
+     * @throws DynamicParamArgumentException when the format or the aggregate is invalid
+     */
+    public static DynamicFacet parse(String facet) throws DynamicParamArgumentException {
+        String[] parts = facet.split(":");
+        if (parts.length == 1) return count(parts[0]);
+        try {
+            Aggregate aggregate = Aggregate.valueOf(parts[1].toUpperCase(Locale.ROOT));
+            if (aggregate == Aggregate.COUNT) return count(parts[0]);
+            if (parts.length == 3) return of(parts[0], aggregate, parts[2]);
+        } catch (IllegalArgumentException e) {
+            throw new DynamicParamArgumentException("Invalid facet aggregate '" + parts[1] + "'.");
+        }
+        throw new DynamicParamArgumentException("Invalid facet '" + facet + "', expected attribute:aggregate:measure.");
+    }
+
+    /**
+     * Name of the facet in the result map
+     */
+    public String name() {
+        return aggregate == Aggregate.COUNT ? attribute : attribute + ":" + aggregate.name().toLowerCase(Locale.ROOT) + ":" + measure;
+    }
+}
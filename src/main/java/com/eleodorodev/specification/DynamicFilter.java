@@ -1,8 +1,18 @@
 package com.eleodorodev.specification;
 
+import com.eleodorodev.specification.contains.ContainsStrategies;
+import com.eleodorodev.specification.contains.ContainsStrategy;
+import com.eleodorodev.specification.enums.Conditional;
+import com.eleodorodev.specification.enums.JoinMode;
+import com.eleodorodev.specification.temporal.DynamicTemporal;
 import jakarta.persistence.criteria.*;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.util.StringUtils;
 
+import java.time.ZoneId;
 import java.util.*;
 
 /**
@@ -141,22 +151,35 @@ public interface DynamicFilter {
      * @param attribute - name of the attribute to be queried
      * @param parents   - optional parameter that should be informed the parents where the attribute is nested
      * @return predicates - {@link DynamicSpecification<T>}
-     * @apiNote Responsible for validating if a value is within a list
+     * @apiNote Responsible for validating if a value is within a list, large lists are rendered by the
+     * {@link ContainsStrategy} selected in {@link ContainsStrategies#DEFAULT}
      */
     static <T, R> DynamicSpecification<R> toContains(List<T> compare, String attribute, String... parents) {
+        return toContains(compare, ContainsStrategies.DEFAULT, attribute, parents);
+    }
+
+    /**
+     * DynamicSpecification toContains
+     *
+     * @param compare    - Object with the value to be compared
+     * @param strategies - selection of the {@link ContainsStrategy} rendering the list
+     * @param attribute  - name of the attribute to be queried
+     * @param parents    - optional parameter that should be informed the parents where the attribute is nested
+     * @return predicates - {@link DynamicSpecification<T>}
+     * @apiNote Responsible for validating if a value is within a list, large lists are rendered by the
+     * {@link ContainsStrategy} selected in the strategies
+     */
+    static <T, R> DynamicSpecification<R> toContains(List<T> compare, ContainsStrategies strategies, String attribute, String... parents) {
         return (root, query, builder) -> {
-            List<Predicate> predicates = new ArrayList<>();
             if (isNotEmpty(compare)) {
                 Expression<T> campo;
                 if (parents != null) {
                     Path<R> parentsPath = getPathRoot(root, parents);
                     campo = parentsPath.get(attribute);
-                    predicates.add(campo.in(compare));
                 } else {
                     campo = root.get(attribute);
                 }
-                predicates.add(campo.in(compare));
-                return builder.and(predicates.toArray(new Predicate[0]));
+                return strategies.select(compare.size()).toPredicate(builder, campo, compare);
             }
             return null;
         };
@@ -175,6 +198,20 @@ public interface DynamicFilter {
         return DynamicSpecification.not(toContains(compare, attribute, parents));
     }
 
+    /**
+     * DynamicSpecification toNotContains
+     *
+     * @param compare    - Object with the value to be compared
+     * @param strategies - selection of the {@link ContainsStrategy} rendering the list
+     * @param attribute  - name of the attribute to be queried
+     * @param parents    - optional parameter that should be informed the parents where the attribute is nested
+     * @return predicates - {@link DynamicSpecification<T>}
+     * @apiNote Responsible for validating if a value is outside a list
+     */
+    static <T, R> DynamicSpecification<R> toNotContains(List<T> compare, ContainsStrategies strategies, String attribute, String... parents) {
+        return DynamicSpecification.not(toContains(compare, strategies, attribute, parents));
+    }
+
 
     /**
      * DynamicSpecification toGreater
@@ -275,6 +312,57 @@ public interface DynamicFilter {
             return null;
         };
     }
+    /**
+     * DynamicSpecification toTemporal
+     *
+     * @param conditional - temporal conditional, ON, IM, LD or RG
+     * @param compare     - value of the conditional Ex.("2024-05-01")
+     * @param zone        - zone of the column, where the days and months are evaluated
+     * @param attribute   - name of the attribute to be queried
+     * @param parents     - optional parameter that should be informed the parents where the attribute is nested
+     * @return predicates - {@link DynamicSpecification<T>}
+     * @apiNote Responsible for checking if a date is within the half-open range of the conditional, see {@link DynamicTemporal}
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static <T> DynamicSpecification<T> toTemporal(Conditional conditional, Object compare, ZoneId zone, String attribute, String... parents) {
+        return (root, query, builder) -> {
+            if (isNotEmpty(compare)) {
+                Path<Comparable> campo;
+                if (parents != null) {
+                    Path<T> parentsPath = getPathRoot(root, parents);
+                    campo = parentsPath.get(attribute);
+                } else {
+                    campo = root.get(attribute);
+                }
+                DynamicTemporal.Range range = DynamicTemporal.range(conditional, compare, zone);
+                List<Predicate> predicates = new ArrayList<>();
+                if (range.start() != null) {
+                    predicates.add(builder.greaterThanOrEqualTo(campo, (Comparable) DynamicTemporal.convert(range.start(), campo.getJavaType(), false)));
+                }
+                if (range.end() != null) {
+                    predicates.add(builder.lessThan(campo, (Comparable) DynamicTemporal.convert(range.end(), campo.getJavaType(), true)));
+                }
+                return predicates.isEmpty() ? null : builder.and(predicates.toArray(new Predicate[0]));
+            }
+            return null;
+        };
+    }
+
+    /**
+     * DynamicSpecification toNotTemporal
+     *
+     * @param conditional - temporal conditional, ON, IM, LD or RG
+     * @param compare     - value of the conditional Ex.("2024-05-01")
+     * @param zone        - zone of the column, where the days and months are evaluated
+     * @param attribute   - name of the attribute to be queried
+     * @param parents     - optional parameter that should be informed the parents where the attribute is nested
+     * @return predicates - {@link DynamicSpecification<T>}
+     * @apiNote Responsible for checking if a date is outside the half-open range of the conditional
+     */
+    static <T> DynamicSpecification<T> toNotTemporal(Conditional conditional, Object compare, ZoneId zone, String attribute, String... parents) {
+        return DynamicSpecification.not(toTemporal(conditional, compare, zone, attribute, parents));
+    }
+
     /**
      * DynamicSpecification toIsNull
      *
@@ -318,14 +406,99 @@ public interface DynamicFilter {
     }
 
     /**
-     * Internal method for obtaining Path
+     * DynamicSpecification toFetch
+     *
+     * @param paths - paths of the associations to be fetched, nested ones separated by dot Ex.("city.state")
+     * @return predicates - {@link DynamicSpecification<T>}
+     * @apiNote Responsible for fetching associations in the same query. The fetches are LEFT joins of their own,
+     * never shared with the filters, so filtering a fetched association neither changes its join semantics nor
+     * truncates the loaded collection. Ignored on count and exists queries
+     */
+    static <T> DynamicSpecification<T> toFetch(String... paths) {
+        return (root, query, builder) -> {
+            if (query != null && root.getJavaType().equals(query.getResultType())) {
+                for (String path : paths) {
+                    From<?, ?> from = root;
+                    for (String attribute : path.split("\\.")) {
+                        from = getFetch(from, attribute);
+                    }
+                }
+            }
+            return null;
+        };
+    }
+
+    /**
+     * DynamicSpecification toExists
+     *
+     * @param spec    - filter on the attribute nested in the parents
+     * @param mode    - how the parents path is filtered
+     * @param parents - optional parameter that should be informed the parents where the attribute is nested
+     * @return predicates - {@link DynamicSpecification<T>}
+     * @apiNote Responsible for filtering through collections with a correlated EXISTS subquery, keeping the
+     * cardinality of the root. Several filters on the same collection may be informed in a single spec
+     */
+    static <T> DynamicSpecification<T> toExists(Specification<T> spec, JoinMode mode, String... parents) {
+        return (root, query, builder) -> {
+            if (query == null || parents == null || parents.length == 0 || mode == JoinMode.JOIN ||
+                    (mode == JoinMode.AUTO && !isCollectionPath(root, parents))) {
+                return spec.toPredicate(root, query, builder);
+            }
+            Subquery<Integer> subquery = query.subquery(Integer.class);
+            Root<T> correlated = subquery.correlate(root);
+            Predicate predicate = spec.toPredicate(correlated, query, builder);
+            if (predicate == null) return null;
+            return builder.exists(subquery.select(builder.literal(1)).where(predicate));
+        };
+    }
+
+    /**
+     * Internal method to check if the parents path crosses a collection
+     */
+    static boolean isCollectionPath(Root<?> root, String... parents) {
+        ManagedType<?> type = root.getModel();
+        for (String parent : parents) {
+            Attribute<?, ?> attribute = type.getAttribute(parent);
+            if (attribute.isCollection()) return true;
+            if (!(attribute instanceof SingularAttribute<?, ?> singular) || !(singular.getType() instanceof ManagedType<?> managed)) {
+                return false;
+            }
+            type = managed;
+        }
+        return false;
+    }
+
+    /**
+     * Internal method for obtaining Path, reusing the joins of the filters already made, never the fetches
      */
+    @SuppressWarnings("unchecked")
     static <T> Path<T> getPathRoot(Root<T> root, String... parents) {
-        From<?, T> from = root;
+        From<?, ?> from = root;
         for (String parent : parents) {
-            from = from.join(parent);
+            from = getJoin(from, parent);
+        }
+        return (Path<T>) from;
+    }
+
+    /**
+     * Internal method for obtaining a join of the attribute, reusing an existing one that is not a fetch
+     */
+    static From<?, ?> getJoin(From<?, ?> from, String attribute) {
+        Set<? extends Fetch<?, ?>> fetches = from.getFetches();
+        for (Join<?, ?> join : from.getJoins()) {
+            if (join.getAttribute().getName().equals(attribute) && !fetches.contains(join)) return join;
+        }
+        return from.join(attribute);
+    }
+
+    /**
+     * Internal method for obtaining a fetch of the attribute, reusing an existing one
+     */
+    static From<?, ?> getFetch(From<?, ?> from, String attribute) {
+        for (Fetch<?, ?> fetch : from.getFetches()) {
+            if (fetch.getAttribute().getName().equals(attribute) && fetch instanceof Join<?, ?> join) return join;
         }
-        return from;
+        return (From<?, ?>) from.fetch(attribute, JoinType.LEFT);
     }
 
     /**
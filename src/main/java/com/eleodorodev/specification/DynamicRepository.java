@@ -1,19 +1,243 @@
 package com.eleodorodev.specification;
 
+import com.eleodorodev.specification.params.DynamicArgs;
+import com.eleodorodev.specification.query.DynamicQueryContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.repository.NoRepositoryBean;
 
 import java.io.Serializable;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * DynamicRepository Repository
  *
  * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
  * @version 1.0.0
- * @apiNote A JPARepository compatible with Specification implementations
+ * @apiNote A JPARepository compatible with Specification implementations. Methods not inherited from
+ * JpaRepository are implemented by {@link com.eleodorodev.specification.repository.SimpleDynamicRepository}, installed
+ * by the auto configuration. A base class configured in {@code @EnableJpaRepositories} must extend it
  * @see  <a href="https://github.com/MatheusEleodoro">...</a>
  */
 @NoRepositoryBean
 public interface DynamicRepository<T, ID extends Serializable> extends JpaRepository<T, ID>, JpaSpecificationExecutor<T> {
+
+    /**
+     * findAll with fetch
+     *
+     * @param spec  specification of the filter
+     * @param fetch associations loaded through an entity graph, nested ones separated by dot Ex.("city.state")
+     * @return entities matching the specification
+     */
+    default List<T> findAll(Specification<T> spec, String... fetch) {
+        return findBy(spec, query -> query.project(fetch).all());
+    }
+
+    /**
+     * findAll with fetch
+     *
+     * @param spec     specification of the filter
+     * @param pageable page to be returned
+     * @param fetch    associations loaded through an entity graph, nested ones separated by dot Ex.("city.state")
+     * @return page of the entities matching the specification
+     */
+    default Page<T> findAll(Specification<T> spec, Pageable pageable, String... fetch) {
+        return findBy(spec, query -> query.project(fetch).page(pageable));
+    }
+
+    /**
+     * findAll by ids first
+     *
+     * @param spec     specification of the filter
+     * @param pageable page to be returned
+     * @param fetch    associations fetched in the second query, nested ones separated by dot Ex.("city.state")
+     * @return page of the entities matching the specification, in the order of the pageable
+     * @apiNote Pages in the database even when collections are fetched: the first query selects only the ids of
+     * the page, grouped by id, sorted and limited, and the second one loads those entities with the fetches. A sort
+     * property reached through a collection orders each entity by its smallest value when ascending, by its largest
+     * when descending
+     */
+    Page<T> findAllByIdsFirst(Specification<T> spec, Pageable pageable, String... fetch);
+
+    /**
+     * findAll coalesced
+     *
+     * @param clazz    class with the annotation {@link com.eleodorodev.specification.annotation.DynamicSpecAttr}
+     * @param args     arguments of the filter, bound with {@link DynamicSpecification#bind}
+     * @param pageable page to be returned
+     * @return page of the entities matching the filter, detached and shared with the identical concurrent calls
+     * @see com.eleodorodev.specification.query.DynamicSingleFlight
+     */
+    Page<T> findAllCoalesced(Class<?> clazz, DynamicArgs args, Pageable pageable);
+
+    /**
+     * exists
+     *
+     * @param clazz class with the annotation {@link com.eleodorodev.specification.annotation.DynamicSpecAttr}
+     * @param args  arguments of the filter, bound with {@link DynamicSpecification#bind}
+     * @return whether any entity matches the filter, reading a single constant row
+     * @see #exists(Specification)
+     */
+    default boolean exists(Class<?> clazz, DynamicArgs args) {
+        return exists(DynamicSpecification.bind(clazz, args));
+    }
+
+    /**
+     * countUpTo
+     *
+     * @param spec specification of the filter
+     * @param cap  maximum number of rows counted
+     * @return number of entities matching the specification, at most the cap
+     * @apiNote Reads at most cap constant rows instead of counting the whole result, for checks like
+     * "are there at least N?". When the specification joins a collection, the distinct ids are read instead so each
+     * entity is counted once
+     */
+    long countUpTo(Specification<T> spec, long cap);
+
+    /**
+     * countUpTo
+     *
+     * @param clazz class with the annotation {@link com.eleodorodev.specification.annotation.DynamicSpecAttr}
+     * @param args  arguments of the filter, bound with {@link DynamicSpecification#bind}
+     * @param cap   maximum number of rows counted
+     * @return number of entities matching the filter, at most the cap
+     */
+    default long countUpTo(Class<?> clazz, DynamicArgs args, long cap) {
+        return countUpTo(DynamicSpecification.bind(clazz, args), cap);
+    }
+
+    /**
+     * deleteAll
+     *
+     * @param spec specification of the filter, applied in a subquery of the ids
+     * @return number of deleted rows
+     * @apiNote Bulk DELETE, the entities are not loaded, so cascades and lifecycle callbacks are not applied and
+     * the managed entities are not refreshed. MySQL and MariaDB reject the subquery on the table being deleted
+     * (error 1093), so there the ids are deleted in chunks of 1000 instead
+     */
+    long deleteAll(Specification<T> spec);
+
+    /**
+     * deleteAll in chunks
+     *
+     * @param spec      specification of the filter
+     * @param chunkSize number of ids deleted by each statement
+     * @return number of deleted rows
+     * @apiNote The ids are read in ascending ranges and each chunk is deleted by its own statement, committed
+     * separately when called outside a transaction, to keep the locks short on large tables
+     */
+    default long deleteAll(Specification<T> spec, int chunkSize) {
+        long deleted = 0;
+        ID after = null;
+        List<ID> ids;
+        do {
+            ids = findIds(spec, after, chunkSize);
+            if (ids.isEmpty()) break;
+            deleted += deleteInBatchById(ids);
+            after = ids.getLast();
+        } while (ids.size() == chunkSize);
+        return deleted;
+    }
+
+    /**
+     * updateAll
+     *
+     * @param spec        specification of the filter, applied in a subquery of the ids
+     * @param assignments values of the attributes of the entity to be updated
+     * @return number of updated rows
+     * @apiNote Bulk UPDATE, the entities are not loaded, so versions and lifecycle callbacks are not applied and
+     * the managed entities are not refreshed. MySQL and MariaDB reject the subquery on the table being updated
+     * (error 1093), so there the ids are updated in chunks of 1000 instead
+     */
+    long updateAll(Specification<T> spec, Map<String, Object> assignments);
+
+    /**
+     * updateAll in chunks
+     *
+     * @param spec        specification of the filter
+     * @param assignments values of the attributes of the entity to be updated
+     * @param chunkSize   number of ids updated by each statement
+     * @return number of updated rows
+     * @apiNote The ids are read in ascending ranges and each chunk is updated by its own statement, committed
+     * separately when called outside a transaction, to keep the locks short on large tables
+     */
+    default long updateAll(Specification<T> spec, Map<String, Object> assignments, int chunkSize) {
+        long updated = 0;
+        ID after = null;
+        List<ID> ids;
+        do {
+            ids = findIds(spec, after, chunkSize);
+            if (ids.isEmpty()) break;
+            updated += updateAllById(ids, assignments);
+            after = ids.getLast();
+        } while (ids.size() == chunkSize);
+        return updated;
+    }
+
+    /**
+     * deleteInBatchById
+     *
+     * @param ids ids of the entities to be deleted
+     * @return number of deleted rows
+     * @apiNote Like {@link #deleteAllByIdInBatch(Iterable)}, returning the rows affected by the statement
+     */
+    long deleteInBatchById(Collection<ID> ids);
+
+    /**
+     * updateAllById
+     *
+     * @param ids         ids of the entities to be updated
+     * @param assignments values of the attributes of the entity to be updated
+     * @return number of updated rows
+     */
+    long updateAllById(Collection<ID> ids, Map<String, Object> assignments);
+
+    /**
+     * findIds
+     *
+     * @param spec  specification of the filter
+     * @param after id after which the ids are read, null to read from the first one
+     * @param limit maximum number of ids
+     * @return ids matching the specification in ascending order
+     */
+    List<ID> findIds(Specification<T> spec, ID after, int limit);
+
+    /**
+     * withTimeout
+     *
+     * @param timeout statement timeout of each query run by the supplier
+     * @param queries calls to this repository Ex.(() -> repository.findAll(spec, pageable))
+     * @return result of the supplier
+     * @see DynamicQueryContext
+     */
+    default <R> R withTimeout(Duration timeout, Supplier<R> queries) {
+        return DynamicQueryContext.withTimeout(timeout, queries);
+    }
+
+    /**
+     * facets
+     *
+     * @param spec   specification of the filter
+     * @param facets facets to be calculated, each one in a GROUP BY query
+     * @return map with the {@link DynamicFacet#name() name} of each facet and the aggregate of each group
+     */
+    Map<String, Map<Object, Number>> facets(Specification<T> spec, Collection<DynamicFacet> facets);
+
+    /**
+     * facets
+     *
+     * @param spec   specification of the filter
+     * @param facets facets to be calculated, each one in a GROUP BY query
+     * @return map with the {@link DynamicFacet#name() name} of each facet and the aggregate of each group
+     */
+    default Map<String, Map<Object, Number>> facets(Specification<T> spec, DynamicFacet... facets) {
+        return facets(spec, List.of(facets));
+    }
 }
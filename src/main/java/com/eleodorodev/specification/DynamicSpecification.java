@@ -2,12 +2,18 @@ package com.eleodorodev.specification;
 
 
 import com.eleodorodev.specification.annotation.DynamicSpecAttr;
+import com.eleodorodev.specification.contains.ContainsStrategies;
+import com.eleodorodev.specification.cost.DynamicQueryBudget;
 import com.eleodorodev.specification.enums.Conditional;
 import com.eleodorodev.specification.enums.Conjunction;
+import com.eleodorodev.specification.enums.JoinMode;
 import com.eleodorodev.specification.exception.DynamicSpecificationException;
+import com.eleodorodev.specification.expression.DynamicExpression;
+import com.eleodorodev.specification.params.DynamicArg;
 import com.eleodorodev.specification.params.DynamicArgs;
 import com.eleodorodev.specification.params.DynamicArgsConverter;
 import com.eleodorodev.specification.params.deserialize.ListDeserializer;
+import com.eleodorodev.specification.temporal.DynamicTemporal;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import jakarta.annotation.Nullable;
 import lombok.AccessLevel;
@@ -15,14 +21,12 @@ import lombok.NoArgsConstructor;
 import lombok.NonNull;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.data.util.Pair;
 import org.springframework.orm.jpa.JpaSystemException;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import java.lang.reflect.Field;
+import java.time.ZoneId;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -46,58 +50,22 @@ public interface DynamicSpecification<T> extends Specification<T> {
      */
     static <R, T> Specification<R> bind(Class<T> clazz, DynamicArgs DynamicArgs) throws DynamicSpecificationException {
         try {
-            AtomicReference<Specification<R>> spec = new AtomicReference<>();
-            AtomicBoolean first = new AtomicBoolean(true);
-
-
             DynamicArgs dynamicArgsLocal = Objects.requireNonNullElse(DynamicArgs, new DynamicArgs(new HashMap<>()));
 
-            var values = Stream.of(clazz.getDeclaredFields())
-                .flatMap(field -> AnnotatedElementUtils.findAllMergedAnnotations(field, DynamicSpecAttr.class).stream()
-                    .map(annotation -> Map.entry(field, annotation)))
-                .filter(n -> dynamicArgsLocal.value().containsKey(n.getValue().property()) || dynamicArgsLocal.value().containsKey(n.getValue().alias()))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
-            values.forEach((key, specAttr) -> {
-                Conditional conditional = specAttr.conditional();
-                Conjunction conjunction = specAttr.conjunction();
-
-                Pair<Object, String> params = Binder.getArgsValues(key, specAttr, dynamicArgsLocal);
-
-                Object value = params.getFirst();
-                boolean negate = specAttr.negate();
+            // the budget covers the terms of the query string and of the expression together
+            List<DynamicTerm> expressionTerms = new ArrayList<>();
+            Specification<R> expression = dynamicArgsLocal.search() && dynamicArgsLocal.expression() != null
+                    ? DynamicExpression.compile(clazz, dynamicArgsLocal, expressionTerms)
+                    : null;
 
-                if (dynamicArgsLocal.search() && !params.getSecond().isEmpty()) {
-                    List<String> args = new ArrayList<>(Arrays.asList(params.getSecond().split(",")));
-                    List<String> validArgs = new ArrayList<>(Arrays.stream(Conjunction.values()).map(Enum::name).toList());
-                    validArgs.addAll(Arrays.stream(Conditional.values()).map(Enum::name).toList());
-
-                    args = args.stream().map(String::toUpperCase).toList();
-                    args = args.stream().filter(validArgs::contains).collect(Collectors.toList());
-
-                    if (args.size() == 1) {
-                        args.addFirst("AND");
-                    }
-
-                    args.sort(Comparator.comparing((String s) -> !s.equalsIgnoreCase("AND") && !s.equalsIgnoreCase("OR"))
-                        .thenComparing((String s) -> s.equalsIgnoreCase("NOT") ? 2 : 1));
-
-
-                    conjunction = Conjunction.valueOf(args.getFirst());
-                    conditional = Conditional.valueOf(args.get(1));
-
-                    negate = args.contains("NOT");
-                }
+            List<DynamicTerm> terms = DynamicQueryBudget.enforce(clazz, Binder.terms(clazz, dynamicArgsLocal), expressionTerms, dynamicArgsLocal);
+            Specification<R> spec = Binder.compose(terms, dynamicArgsLocal.containsStrategies());
+            if (expression != null) {
+                spec = spec == null ? expression : spec.and(expression);
+            }
 
-                if (first.get()) {
-                    spec.set(apply(spec.get(), conditional, null, specAttr, value, negate));
-                    first.set(false);
-                    return;
-                }
-                spec.getAndSet(apply(spec.get(), conditional, conjunction, specAttr, value, negate));
-
-            });
-            return spec.get();
+            Set<String> fetch = Binder.fetch(clazz, dynamicArgsLocal);
+            return fetch.isEmpty() ? spec : DynamicFilter.<R>toFetch(fetch.toArray(String[]::new)).and(spec);
         } catch (JpaSystemException e) {
             throw new DynamicSpecificationException("Failed to generate Specification queries", e);
         }
@@ -111,11 +79,13 @@ public interface DynamicSpecification<T> extends Specification<T> {
             String property = specAttr.property();
             String[] parents = specAttr.parents().length == 0 ? null : specAttr.parents();
 
-            if (conjunction == null) return execWhere(negate, value, property, parents, conditional);
+            ZoneId zone = DynamicTemporal.zone(specAttr.zone());
+
+            if (conjunction == null) return execWhere(negate, value, property, parents, conditional, zone);
 
             return switch (conjunction) {
-                case OR -> execOr(negate, value, property, parents, conditional, spec);
-                case AND -> execAnd(negate, value, property, parents, conditional, spec);
+                case OR -> execOr(negate, value, property, parents, conditional, spec, zone);
+                case AND -> execAnd(negate, value, property, parents, conditional, spec, zone);
             };
         } catch (JpaSystemException e) {
             throw new DynamicSpecificationException(e);
@@ -127,6 +97,14 @@ public interface DynamicSpecification<T> extends Specification<T> {
      */
     static <T> Specification<T> execAnd(boolean negate, Object value, String property, String[] parents,
                                         Conditional conditional, Specification<T> spec) throws DynamicSpecificationException {
+        return execAnd(negate, value, property, parents, conditional, spec, ZoneId.systemDefault());
+    }
+
+    /**
+     * Create AND, temporal conditionals resolved in the zone - INTERNAL
+     */
+    static <T> Specification<T> execAnd(boolean negate, Object value, String property, String[] parents,
+                                        Conditional conditional, Specification<T> spec, ZoneId zone) throws DynamicSpecificationException {
         try {
             List<Long> element = DynamicFilter.castList(value);
             return switch (conditional) {
@@ -144,6 +122,8 @@ public interface DynamicSpecification<T> extends Specification<T> {
                     spec.and(DynamicFilter.toLess(DynamicArgsConverter.parseNumber(value.toString()), property, parents));
                 case LTE ->
                     spec.and(DynamicFilter.toLessEqualTo(DynamicArgsConverter.parseNumber(value.toString()), property, parents));
+                case ON, IM, LD, RG ->
+                    spec.and(negate ? DynamicFilter.toNotTemporal(conditional, value, zone, property, parents) : DynamicFilter.toTemporal(conditional, value, zone, property, parents));
                 default ->
                     spec.and(negate ? DynamicFilter.toNotEquals(value, property, parents) : DynamicFilter.toEquals(value, property, parents));
             };
@@ -157,6 +137,14 @@ public interface DynamicSpecification<T> extends Specification<T> {
      */
     static <T> Specification<T> execOr(boolean negate, Object value, String property, String[] parents,
                                        Conditional conditional, Specification<T> spec) throws DynamicSpecificationException {
+        return execOr(negate, value, property, parents, conditional, spec, ZoneId.systemDefault());
+    }
+
+    /**
+     * Create OR, temporal conditionals resolved in the zone - INTERNAL
+     */
+    static <T> Specification<T> execOr(boolean negate, Object value, String property, String[] parents,
+                                       Conditional conditional, Specification<T> spec, ZoneId zone) throws DynamicSpecificationException {
 
         try {
             List<Long> element = DynamicFilter.castList(value);
@@ -175,6 +163,8 @@ public interface DynamicSpecification<T> extends Specification<T> {
                     spec.or(DynamicFilter.toLess(DynamicArgsConverter.parseNumber(value.toString()), property, parents));
                 case LTE ->
                     spec.or(DynamicFilter.toLessEqualTo(DynamicArgsConverter.parseNumber(value.toString()), property, parents));
+                case ON, IM, LD, RG ->
+                    spec.or(negate ? DynamicFilter.toNotTemporal(conditional, value, zone, property, parents) : DynamicFilter.toTemporal(conditional, value, zone, property, parents));
                 default ->
                     spec.or(negate ? DynamicFilter.toNotEquals(value, property, parents) : DynamicFilter.toEquals(value, property, parents));
             };
@@ -188,6 +178,14 @@ public interface DynamicSpecification<T> extends Specification<T> {
      */
     static <T> Specification<T> execWhere(boolean negate, Object value, String property, String[] parents,
                                           Conditional conditional) throws DynamicSpecificationException {
+        return execWhere(negate, value, property, parents, conditional, ZoneId.systemDefault());
+    }
+
+    /**
+     * Create WHERE, temporal conditionals resolved in the zone - INTERNAL
+     */
+    static <T> Specification<T> execWhere(boolean negate, Object value, String property, String[] parents,
+                                          Conditional conditional, ZoneId zone) throws DynamicSpecificationException {
         try {
             List<Long> element = DynamicFilter.castList(value);
             return switch (conditional) {
@@ -205,6 +203,8 @@ public interface DynamicSpecification<T> extends Specification<T> {
                     Specification.where(DynamicFilter.toLess(DynamicArgsConverter.parseNumber(value.toString()), property, parents));
                 case LTE ->
                     Specification.where(DynamicFilter.toLessEqualTo(DynamicArgsConverter.parseNumber(value.toString()), property, parents));
+                case ON, IM, LD, RG ->
+                    Specification.where(negate ? DynamicFilter.toNotTemporal(conditional, value, zone, property, parents) : DynamicFilter.toTemporal(conditional, value, zone, property, parents));
                 default ->
                     Specification.where(negate ? DynamicFilter.toNotEquals(value, property, parents) : DynamicFilter.toEquals(value, property, parents));
             };
@@ -227,14 +227,148 @@ public interface DynamicSpecification<T> extends Specification<T> {
     @NoArgsConstructor(access = AccessLevel.PRIVATE)
     class Binder {
 
-        static Pair<Object, String> getArgsValues(Field key ,DynamicSpecAttr specAttr,  DynamicArgs args) {
-            Pair<Object, String> params = args.value().getOrDefault(specAttr.property(), args.value().get(specAttr.alias()));
-            JsonDeserialize deserialize = key.getAnnotation(JsonDeserialize.class);
-            if (deserialize != null && deserialize.using().equals(ListDeserializer.class) &&
-                !(params.getFirst() instanceof List))
-                params = Pair.of(List.of(params.getFirst()), params.getSecond());
+        /**
+         * Annotated attributes of each class, resolved once
+         */
+        private static final ClassValue<List<Attribute>> ATTRIBUTES = new ClassValue<>() {
+            @Override
+            protected List<Attribute> computeValue(Class<?> type) {
+                return Stream.of(type.getDeclaredFields())
+                    .flatMap(field -> AnnotatedElementUtils.findAllMergedAnnotations(field, DynamicSpecAttr.class).stream()
+                        .map(specAttr -> new Attribute(specAttr, isList(field))))
+                    .toList();
+            }
+        };
+
+        /**
+         * @param specAttr annotation of the attribute
+         * @param list     whether the field is deserialized with {@link ListDeserializer}, single values are wrapped in a list
+         */
+        private record Attribute(DynamicSpecAttr specAttr, boolean list) {
+        }
+
+        /**
+         * Resolves the terms informed in the {@link DynamicArgs} for the annotated class
+         */
+        public static List<DynamicTerm> terms(Class<?> clazz, DynamicArgs args) {
+            List<DynamicTerm> terms = new ArrayList<>();
+            for (Attribute attribute : ATTRIBUTES.get(clazz)) {
+                DynamicSpecAttr specAttr = attribute.specAttr();
+                DynamicArg arg = args.arg(specAttr.property());
+                if (arg == null && !specAttr.alias().isEmpty()) arg = args.arg(specAttr.alias());
+                if (arg == null) continue;
+
+                Conditional conditional = specAttr.conditional();
+                Conjunction conjunction = specAttr.conjunction();
+                boolean negate = specAttr.negate();
+
+                if (args.search() && arg.overridden()) {
+                    conjunction = Objects.requireNonNullElse(arg.conjunction(), Conjunction.AND);
+                    conditional = Objects.requireNonNullElse(arg.conditional(), conditional);
+                    negate = arg.negate();
+                }
+
+                Object value = attribute.list() ? arg.asList() : arg.value();
+                terms.add(new DynamicTerm(specAttr, conjunction, conditional, negate, value));
+            }
+            return terms;
+        }
+
+        /**
+         * Joins the terms in a single {@link Specification}, the first one is used as WHERE.
+         * When all the terms are joined with AND, the ones filtering the same parents path share
+         * a single EXISTS subquery
+         */
+        static <R> Specification<R> compose(List<DynamicTerm> terms, ContainsStrategies strategies) {
+            boolean grouped = terms.stream().skip(1).noneMatch(term -> term.conjunction() == Conjunction.OR);
+            Map<String, List<DynamicTerm>> groups = terms.stream()
+                .filter(term -> grouped && term.specAttr().parents().length > 0 && term.specAttr().join() != JoinMode.JOIN)
+                .collect(Collectors.groupingBy(Binder::groupKey, LinkedHashMap::new, Collectors.toList()));
+
+            Specification<R> spec = null;
+            boolean first = true;
+            Set<String> applied = new HashSet<>();
+            for (DynamicTerm term : terms) {
+                List<DynamicTerm> group = groups.get(groupKey(term));
+                if (group != null && !applied.add(groupKey(term))) continue;
+
+                Specification<R> termSpec = toSpecification(group != null ? group : List.of(term), strategies);
+                if (first) {
+                    spec = Specification.where(termSpec);
+                    first = false;
+                } else {
+                    spec = term.conjunction() == Conjunction.OR ? spec.or(termSpec) : spec.and(termSpec);
+                }
+            }
+            return spec;
+        }
+
+        /**
+         * Creates the specification of terms sharing the same parents path, joined with AND
+         */
+        public static <R> Specification<R> toSpecification(List<DynamicTerm> terms) {
+            return toSpecification(terms, ContainsStrategies.DEFAULT);
+        }
+
+        /**
+         * Creates the specification of terms sharing the same parents path, joined with AND, rendering the CT
+         * lists with the strategies
+         */
+        public static <R> Specification<R> toSpecification(List<DynamicTerm> terms, ContainsStrategies strategies) {
+            Specification<R> spec = null;
+            for (DynamicTerm term : terms) {
+                String[] parents = term.specAttr().parents().length == 0 ? null : term.specAttr().parents();
+                Specification<R> termSpec = term.conditional().isTemporal()
+                    ? temporal(term, parents)
+                    : term.conditional() == Conditional.CT
+                    ? contains(term, parents, strategies)
+                    : DynamicSpecification.execWhere(term.negate(), term.value(), term.specAttr().property(), parents, term.conditional());
+                spec = spec == null ? termSpec : spec.and(termSpec);
+            }
+            DynamicSpecAttr specAttr = terms.getFirst().specAttr();
+            return DynamicFilter.toExists(spec, specAttr.join(), specAttr.parents());
+        }
+
+        /**
+         * Creates the specification of a temporal term in the zone of its {@link DynamicSpecAttr}
+         */
+        private static <R> Specification<R> temporal(DynamicTerm term, String[] parents) {
+            ZoneId zone = DynamicTemporal.zone(term.specAttr().zone());
+            return term.negate()
+                ? DynamicFilter.toNotTemporal(term.conditional(), term.value(), zone, term.specAttr().property(), parents)
+                : DynamicFilter.toTemporal(term.conditional(), term.value(), zone, term.specAttr().property(), parents);
+        }
+
+        /**
+         * Creates the specification of a CT term rendered by the strategies
+         */
+        private static <R> Specification<R> contains(DynamicTerm term, String[] parents, ContainsStrategies strategies) {
+            List<Object> values = DynamicFilter.castList(term.value());
+            return term.negate()
+                ? DynamicFilter.toNotContains(values, strategies, term.specAttr().property(), parents)
+                : DynamicFilter.toContains(values, strategies, term.specAttr().property(), parents);
+        }
+
+        private static String groupKey(DynamicTerm term) {
+            return term.specAttr().join() + ":" + String.join(".", term.specAttr().parents());
+        }
+
+        /**
+         * Associations to be fetched, requested by the {@link DynamicArgs} or declared with {@link DynamicSpecAttr#fetch()}
+         */
+        static Set<String> fetch(Class<?> clazz, DynamicArgs args) {
+            Set<String> fetch = new LinkedHashSet<>(args.fetch());
+            ATTRIBUTES.get(clazz).stream()
+                .map(Attribute::specAttr)
+                .filter(specAttr -> specAttr.fetch() && specAttr.parents().length > 0)
+                .map(specAttr -> String.join(".", specAttr.parents()))
+                .forEach(fetch::add);
+            return fetch;
+        }
 
-            return params;
+        private static boolean isList(Field field) {
+            JsonDeserialize deserialize = field.getAnnotation(JsonDeserialize.class);
+            return deserialize != null && deserialize.using().equals(ListDeserializer.class);
         }
 
     }
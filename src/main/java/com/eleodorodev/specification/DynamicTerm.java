@@ -0,0 +1,39 @@
+package com.eleodorodev.specification;
+
+import com.eleodorodev.specification.annotation.DynamicSpecAttr;
+import com.eleodorodev.specification.enums.Conditional;
+import com.eleodorodev.specification.enums.Conjunction;
+
+/**
+ * DynamicTerm
+ *
+ * @param specAttr    annotation that declared the filtered attribute
+ * @param conjunction conjunction used to join the term with the previous ones
+ * @param conditional conditional applied to the attribute
+ * @param negate      whether the condition is negated
+ * @param value       value received for the attribute
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ * @apiNote A single filter resolved by {@link DynamicSpecification#bind} before it is turned into a predicate
+ */
+public record DynamicTerm(DynamicSpecAttr specAttr, Conjunction conjunction, Conditional conditional,
+                          boolean negate, Object value) {
+
+    /**
+     * Same term using the conjunction, conditional and negation declared in {@link DynamicSpecAttr}
+     */
+    public DynamicTerm withDefaults() {
+        return new DynamicTerm(specAttr, specAttr.conjunction(), specAttr.conditional(), specAttr.negate(), value);
+    }
+
+    /**
+     * Whether the client changed the operators declared in {@link DynamicSpecAttr}
+     */
+    public boolean isOverridden() {
+        return conjunction != specAttr.conjunction() || conditional != specAttr.conditional() || negate != specAttr.negate();
+    }
+
+    @Override
+    public String toString() {
+        return specAttr.property() + ";" + conjunction + "," + conditional + (negate ? ",NOT" : "");
+    }
+}
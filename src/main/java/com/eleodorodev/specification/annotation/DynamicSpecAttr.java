@@ -3,6 +3,7 @@ package com.eleodorodev.specification.annotation;
 
 import com.eleodorodev.specification.enums.Conditional;
 import com.eleodorodev.specification.enums.Conjunction;
+import com.eleodorodev.specification.enums.JoinMode;
 
 import java.lang.annotation.*;
 
@@ -24,4 +25,28 @@ public @interface DynamicSpecAttr {
     Conditional conditional() default Conditional.EQ;
 
     boolean negate() default false;
+
+    /**
+     * Whether the column is backed by an index, used by the query cost model
+     */
+    boolean indexed() default true;
+
+    /**
+     * Fetches the {@link #parents()} path in the same query with a LEFT fetch join of its own. The filter keeps
+     * its separate join, so the path is joined twice in the SQL: the filter never truncates a fetched collection,
+     * at the cost of a duplicated join
+     */
+    boolean fetch() default false;
+
+    /**
+     * How the {@link #parents()} path is filtered. {@link JoinMode#AUTO} uses a correlated EXISTS subquery
+     * when the path crosses a collection and a plain join otherwise
+     */
+    JoinMode join() default JoinMode.AUTO;
+
+    /**
+     * Zone of the values of a temporal column, where the days and months of the temporal conditionals are evaluated.
+     * The system default zone when empty Ex.("UTC", "America/Sao_Paulo")
+     */
+    String zone() default "";
 }
@@ -0,0 +1,40 @@
+package com.eleodorodev.specification.config;
+
+import com.eleodorodev.specification.routing.DynamicReplicaDataSource;
+import lombok.NonNull;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+
+/**
+ * Post processor that wraps the primary {@link DataSource} in a {@link DynamicReplicaDataSource}, routing the
+ * read-only transactions to the replica configured under {@code dynamic-specification.replica}.
+ *
+ * @author Matheus Eleodoro
+ */
+public class DynamicReplicaPostProcessor implements BeanPostProcessor {
+
+    private final DynamicSpecProperties.Replica replica;
+
+    public DynamicReplicaPostProcessor(DynamicSpecProperties.Replica replica) {
+        this.replica = replica;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+        if (!(bean instanceof DataSource primary) || bean instanceof DynamicReplicaDataSource ||
+                !beanName.equals(replica.getDataSourceBean())) {
+            return bean;
+        }
+
+        DataSourceBuilder<?> builder = DataSourceBuilder.create().url(replica.getUrl());
+        if (StringUtils.hasText(replica.getUsername())) builder.username(replica.getUsername());
+        if (StringUtils.hasText(replica.getPassword())) builder.password(replica.getPassword());
+        if (StringUtils.hasText(replica.getDriverClassName())) builder.driverClassName(replica.getDriverClassName());
+
+        return new DynamicReplicaDataSource(primary, builder.build(), replica.getMaxLag(), replica.getLagQuery(),
+                replica.getLagCheckInterval(), replica.getRetryAfter());
+    }
+}
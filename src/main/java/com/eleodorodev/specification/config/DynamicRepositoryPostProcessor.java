@@ -0,0 +1,62 @@
+package com.eleodorodev.specification.config;
+
+import com.eleodorodev.specification.DynamicRepository;
+import com.eleodorodev.specification.repository.SimpleDynamicRepository;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Post processor that installs {@link SimpleDynamicRepository} as the base class of the
+ * repositories extending {@link DynamicRepository}.
+ *
+ * <p>Other repositories, and the ones whose {@code @EnableJpaRepositories} configures a
+ * {@code repositoryBaseClass}, keep the configured base class. A configured base class of a
+ * {@link DynamicRepository} must extend {@link SimpleDynamicRepository}, which implements its methods.</p>
+ *
+ * @author Matheus Eleodoro
+ */
+@Slf4j
+public class DynamicRepositoryPostProcessor implements BeanPostProcessor, BeanFactoryAware {
+
+    private static final String BASE_CLASS_PROPERTY = "repositoryBaseClass";
+
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Override
+    public void setBeanFactory(@NonNull BeanFactory beanFactory) {
+        if (beanFactory instanceof ConfigurableListableBeanFactory listable) this.beanFactory = listable;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(@NonNull Object bean, @NonNull String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factory && factory.getObjectType() != null &&
+                DynamicRepository.class.isAssignableFrom(factory.getObjectType())) {
+            Class<?> configured = configuredBaseClass(beanName);
+            if (configured == null) {
+                factory.setRepositoryBaseClass(SimpleDynamicRepository.class);
+            } else if (SimpleDynamicRepository.class.isAssignableFrom(configured)) {
+                log.debug("Dynamic repository {} keeps the configured base class {}", beanName, configured.getName());
+            } else {
+                throw new IllegalStateException("The base class " + configured.getName() + " of the dynamic repository " +
+                        beanName + " must extend " + SimpleDynamicRepository.class.getName());
+            }
+        }
+        return bean;
+    }
+
+    /**
+     * Base class set on the definition of the repository factory, null when none was configured
+     */
+    private Class<?> configuredBaseClass(String beanName) {
+        if (beanFactory == null || !beanFactory.containsBeanDefinition(beanName)) return null;
+        Object configured = beanFactory.getBeanDefinition(beanName).getPropertyValues().get(BASE_CLASS_PROPERTY);
+        if (configured instanceof Class<?> type) return type;
+        return configured == null ? null : ClassUtils.resolveClassName(configured.toString(), beanFactory.getBeanClassLoader());
+    }
+}
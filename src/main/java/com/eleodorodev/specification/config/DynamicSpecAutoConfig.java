@@ -1,35 +1,222 @@
 package com.eleodorodev.specification.config;
 
+import com.eleodorodev.specification.contains.ContainsStrategies;
+import com.eleodorodev.specification.cost.DynamicCostModel;
+import com.eleodorodev.specification.jdbc.DynamicJdbcTemplate;
+import com.eleodorodev.specification.params.DynamicArgsConverter;
+import com.eleodorodev.specification.query.DynamicSingleFlight;
+import com.eleodorodev.specification.warmup.DynamicWarmUp;
+import com.eleodorodev.specification.web.DynamicQueryInterceptor;
 import com.eleodorodev.specification.web.QueryArgsHandlerMethodResolver;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.NonNull;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Configuration class for dynamic specification.
  *
- * <p>This class implements the {@link WebMvcConfigurer} interface to customize the
- * Spring MVC configuration. It adds a custom argument resolver to handle query arguments.</p>
+ * <p>It installs the repository base class and the shared beans of every application. The Spring MVC
+ * customization, adding a custom argument resolver to handle query arguments, lives in the nested
+ * {@link WebMvc} configuration, applied only to servlet applications.</p>
  *
  * @author Matheus Eleodoro
  */
-@Configuration
-public class DynamicSpecAutoConfig implements WebMvcConfigurer {
+@AutoConfiguration(after = {HibernateJpaAutoConfiguration.class, JdbcTemplateAutoConfiguration.class})
+@EnableConfigurationProperties(DynamicSpecProperties.class)
+public class DynamicSpecAutoConfig {
+
+    private static final EnumSet<DatabaseDriver> ARRAY_DATABASES = EnumSet.of(DatabaseDriver.POSTGRESQL, DatabaseDriver.H2);
+
+    private final DynamicSpecProperties properties;
+    private final Environment environment;
+
+    public DynamicSpecAutoConfig(DynamicSpecProperties properties, Environment environment) {
+        this.properties = properties;
+        this.environment = environment;
+    }
+
+    /**
+     * Installs {@link com.eleodorodev.specification.repository.SimpleDynamicRepository} as the base class
+     * of the {@link com.eleodorodev.specification.DynamicRepository} interfaces.
+     *
+     * @return The post processor of the repository factories.
+     */
+    @Bean
+    public static DynamicRepositoryPostProcessor dynamicRepositoryPostProcessor() {
+        return new DynamicRepositoryPostProcessor();
+    }
+
+    /**
+     * Routes the read-only transactions to the replica configured under {@code dynamic-specification.replica}.
+     *
+     * @param environment The environment the replica settings are bound from.
+     * @return The post processor of the primary data source.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "dynamic-specification.replica", name = "enabled", havingValue = "true")
+    public static DynamicReplicaPostProcessor dynamicReplicaPostProcessor(Environment environment) {
+        return new DynamicReplicaPostProcessor(Binder.get(environment)
+                .bindOrCreate("dynamic-specification.replica", DynamicSpecProperties.Replica.class));
+    }
 
     /**
-     * Adds custom argument resolvers to the list of resolvers.
+     * Read-only JDBC backend of the dynamic filters.
      *
-     * <p>This method is overridden to add the {@link QueryArgsHandlerMethodResolver}
-     * as the first argument resolver in the list. This resolver is responsible for
-     * handling query arguments dynamically.</p>
+     * @param jdbcTemplate         The template used to run the compiled SQL.
+     * @param entityManagerFactory The factory whose metamodel provides the tables and columns.
+     * @return The JDBC backend.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean({NamedParameterJdbcTemplate.class, EntityManagerFactory.class})
+    public DynamicJdbcTemplate dynamicJdbcTemplate(NamedParameterJdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        return new DynamicJdbcTemplate(jdbcTemplate, entityManagerFactory);
+    }
+
+    /**
+     * Warm-up of the filter shapes, run when the application is ready and before it accepts traffic.
      *
-     * @param resolvers The list of argument resolvers to which the custom resolver will be added.
+     * @param entityManagerFactory The factory of the entity managers used by the warm-up.
+     * @return The warm-up listener.
      */
-    @Override
-    public void addArgumentResolvers(@NonNull List<HandlerMethodArgumentResolver> resolvers) {
-        resolvers.addFirst(new QueryArgsHandlerMethodResolver());
+    @Bean
+    @ConditionalOnBean(EntityManagerFactory.class)
+    @ConditionalOnProperty(prefix = "dynamic-specification.warm-up", name = "enabled", havingValue = "true")
+    public DynamicWarmUp dynamicWarmUp(EntityManagerFactory entityManagerFactory) {
+        var warmUp = properties.getWarmUp();
+        return new DynamicWarmUp(entityManagerFactory, warmUp.toTargets(), warmUp.getConditionals(), warmUp.isExecute(), warmUp.getTimeout());
+    }
+
+    /**
+     * Strategies of the CT conditional configured under {@code dynamic-specification.contains}.
+     *
+     * <p>Array parameters are enabled by default on databases that support them,
+     * detected from the {@code spring.datasource.url} property.</p>
+     *
+     * @return The selection of the contains strategies.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ContainsStrategies containsStrategies() {
+        var contains = properties.getContains();
+        String url = environment.getProperty("spring.datasource.url");
+        boolean array = Objects.requireNonNullElseGet(contains.getArrayParameter(),
+                () -> url != null && ARRAY_DATABASES.contains(DatabaseDriver.fromJdbcUrl(url)));
+        return ContainsStrategies.builder()
+                .maxParameters(contains.getMaxParameters())
+                .arrayThreshold(contains.getArrayThreshold())
+                .arraySupported(array)
+                .build();
+    }
+
+    /**
+     * Converter of the query strings, with the cache of parsed parameters configured under
+     * {@code dynamic-specification.args-cache}.
+     *
+     * @return The converter used by the argument resolvers.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public DynamicArgsConverter dynamicArgsConverter() {
+        return new DynamicArgsConverter(properties.getArgsCache().getSize());
+    }
+
+    /**
+     * Configures the {@link DynamicSingleFlight} coalescing.
+     */
+    @PostConstruct
+    public void configure() {
+        DynamicSingleFlight.configure(properties.getSingleFlight().getMaxInFlight());
+    }
+
+    /**
+     * Spring MVC configuration, applied only to servlet applications.
+     *
+     * <p>It adds the {@link QueryArgsHandlerMethodResolver} and the {@link DynamicQueryInterceptor}. Reactive
+     * applications use the {@link DynamicSpecReactiveAutoConfig} instead.</p>
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass(WebMvcConfigurer.class)
+    static class WebMvc implements WebMvcConfigurer {
+
+        private final DynamicSpecProperties properties;
+        private final ObjectProvider<DynamicCostModel> costModel;
+        private final ObjectProvider<ContainsStrategies> containsStrategies;
+        private final ObjectProvider<DynamicArgsConverter> converter;
+        private final DynamicQueryInterceptor queryInterceptor = new DynamicQueryInterceptor();
+
+        WebMvc(DynamicSpecProperties properties, ObjectProvider<DynamicCostModel> costModel,
+               ObjectProvider<ContainsStrategies> containsStrategies, ObjectProvider<DynamicArgsConverter> converter) {
+            this.properties = properties;
+            this.costModel = costModel;
+            this.containsStrategies = containsStrategies;
+            this.converter = converter;
+        }
+
+        /**
+         * Adds custom argument resolvers to the list of resolvers.
+         *
+         * <p>This method is overridden to add the {@link QueryArgsHandlerMethodResolver}
+         * as the first argument resolver in the list. This resolver is responsible for
+         * handling query arguments dynamically. A {@link DynamicCostModel} bean, when present,
+         * replaces the weights configured under {@code dynamic-specification.cost}, and the
+         * {@link ContainsStrategies} bean renders the CT conditional. The {@link DynamicArgsConverter} bean keeps
+         * the cache of the parsed parameters.</p>
+         *
+         * @param resolvers The list of argument resolvers to which the custom resolver will be added.
+         */
+        @Override
+        public void addArgumentResolvers(@NonNull List<HandlerMethodArgumentResolver> resolvers) {
+            DynamicCostModel model = costModel.getIfAvailable(() -> properties.getCost().toModel());
+            var strategies = containsStrategies.getIfAvailable(() -> ContainsStrategies.DEFAULT);
+            var argsConverter = converter.getIfAvailable(() -> new DynamicArgsConverter(properties.getArgsCache().getSize()));
+            resolvers.addFirst(new QueryArgsHandlerMethodResolver(model, strategies, argsConverter));
+        }
+
+        /**
+         * Adds the {@link DynamicQueryInterceptor} ending the query context of the requests.
+         *
+         * @param registry The registry of the handler interceptors.
+         */
+        @Override
+        public void addInterceptors(@NonNull InterceptorRegistry registry) {
+            registry.addInterceptor(queryInterceptor);
+        }
+
+        /**
+         * Registers the {@link DynamicQueryInterceptor} cancelling the queries of the failed async requests.
+         *
+         * @param configurer The configurer of the async requests.
+         */
+        @Override
+        public void configureAsyncSupport(@NonNull AsyncSupportConfigurer configurer) {
+            configurer.registerCallableInterceptors(queryInterceptor);
+            configurer.registerDeferredResultInterceptors(queryInterceptor);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,191 @@
+package com.eleodorodev.specification.config;
+
+import com.eleodorodev.specification.cost.DefaultDynamicCostModel;
+import com.eleodorodev.specification.enums.Conditional;
+import com.eleodorodev.specification.warmup.DynamicWarmUp;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Configuration properties for dynamic specification, bound from the {@code dynamic-specification} prefix.
+ *
+ * @author Matheus Eleodoro
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "dynamic-specification")
+public class DynamicSpecProperties {
+
+    private final Cost cost = new Cost();
+
+    private final Contains contains = new Contains();
+
+    private final WarmUp warmUp = new WarmUp();
+
+    private final ArgsCache argsCache = new ArgsCache();
+
+    private final Replica replica = new Replica();
+
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    /**
+     * Weights of the {@link DefaultDynamicCostModel}, see its fields for the meaning of each one.
+     */
+    @Getter
+    @Setter
+    public static class Cost {
+        private double equal = 1;
+        private double range = 2;
+        private double like = 20;
+        private double contains = 1;
+        private double containsElement = 0.01;
+        private double join = 3;
+        private double unindexed = 10;
+        private double negate = 2;
+        private double or = 3;
+
+        public DefaultDynamicCostModel toModel() {
+            return DefaultDynamicCostModel.builder()
+                    .equal(equal).range(range).like(like)
+                    .contains(contains).containsElement(containsElement)
+                    .join(join).unindexed(unindexed).negate(negate).or(or)
+                    .build();
+        }
+    }
+
+    /**
+     * Strategies of the CT conditional, see {@link com.eleodorodev.specification.contains.ContainsStrategies}.
+     */
+    @Getter
+    @Setter
+    public static class Contains {
+        /**
+         * Maximum number of parameters of a single IN clause, larger lists are split in chunks.
+         */
+        private int maxParameters = 1000;
+        /**
+         * List size from which a single array parameter is used, when supported.
+         */
+        private int arrayThreshold = 100;
+        /**
+         * Whether to bind large lists as an array parameter compared with {@code = any(?)}, detected from
+         * {@code spring.datasource.url} when not set.
+         */
+        private Boolean arrayParameter;
+    }
+
+    /**
+     * Warm-up of the filter shapes, see {@link com.eleodorodev.specification.warmup.DynamicWarmUp}.
+     */
+    @Getter
+    @Setter
+    public static class WarmUp {
+        private boolean enabled = false;
+        /**
+         * Entities annotated with DynamicSpecAttr whose shapes are warmed up.
+         */
+        private List<Class<?>> types = new ArrayList<>();
+        /**
+         * Filters declared in other classes, such as DTOs, each one with the entity it queries.
+         */
+        private List<Filter> filters = new ArrayList<>();
+        /**
+         * Conditionals of each property, the declared one when empty.
+         */
+        private Set<Conditional> conditionals = EnumSet.noneOf(Conditional.class);
+        /**
+         * Whether to run the select of each shape with a single row limit, rendering its SQL. When disabled the
+         * queries are only built.
+         */
+        private boolean execute = true;
+        /**
+         * Statement timeout of each select, so scans of large tables do not hold the startup.
+         */
+        private Duration timeout = Duration.ofSeconds(1);
+
+        /**
+         * Targets of the {@link #types} and the {@link #filters}
+         */
+        public List<DynamicWarmUp.Target> toTargets() {
+            List<DynamicWarmUp.Target> targets = new ArrayList<>();
+            types.forEach(type -> targets.add(DynamicWarmUp.Target.of(type)));
+            filters.forEach(filter -> targets.add(new DynamicWarmUp.Target(filter.getEntity(),
+                    filter.getAnnotated() == null ? filter.getEntity() : filter.getAnnotated())));
+            return targets;
+        }
+
+        @Getter
+        @Setter
+        public static class Filter {
+            /**
+             * Entity queried.
+             */
+            private Class<?> entity;
+            /**
+             * Class annotated with DynamicSpecAttr, the entity when not set.
+             */
+            private Class<?> annotated;
+        }
+    }
+
+    /**
+     * Cache of the parsed query parameters, see {@link com.eleodorodev.specification.params.DynamicArgsConverter#cacheStats()}.
+     */
+    @Getter
+    @Setter
+    public static class ArgsCache {
+        /**
+         * Maximum number of parsed parameters kept, zero disables the cache.
+         */
+        private int size = 512;
+    }
+
+    /**
+     * Coalescing of identical concurrent queries, see {@link com.eleodorodev.specification.query.DynamicSingleFlight}.
+     */
+    @Getter
+    @Setter
+    public static class SingleFlight {
+        /**
+         * Maximum number of distinct queries in flight, zero disables the coalescing.
+         */
+        private int maxInFlight = 1024;
+    }
+
+    /**
+     * Replica serving the read-only transactions, see {@link com.eleodorodev.specification.routing.DynamicReplicaDataSource}.
+     */
+    @Getter
+    @Setter
+    public static class Replica {
+        private boolean enabled = false;
+        /**
+         * Name of the primary data source bean wrapped by the routing.
+         */
+        private String dataSourceBean = "dataSource";
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        /**
+         * Maximum replication lag accepted, reads go to the primary above it. Disabled when not set.
+         */
+        private Duration maxLag;
+        /**
+         * Query returning the replication lag in seconds, required by {@link #maxLag}.
+         */
+        private String lagQuery;
+        private Duration lagCheckInterval = Duration.ofSeconds(5);
+        /**
+         * Time the replica is skipped after failing to give a connection.
+         */
+        private Duration retryAfter = Duration.ofSeconds(30);
+    }
+}
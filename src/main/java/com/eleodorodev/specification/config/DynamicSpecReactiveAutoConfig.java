@@ -0,0 +1,80 @@
+package com.eleodorodev.specification.config;
+
+import com.eleodorodev.specification.contains.ContainsStrategies;
+import com.eleodorodev.specification.cost.DynamicCostModel;
+import com.eleodorodev.specification.params.DynamicArgsConverter;
+import com.eleodorodev.specification.web.reactive.DynamicReactiveExecutor;
+import com.eleodorodev.specification.web.reactive.ReactiveQueryArgsHandlerMethodResolver;
+import lombok.NonNull;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+import reactor.core.publisher.Flux;
+
+/**
+ * Reactive configuration class for dynamic specification.
+ *
+ * <p>Applied when the application runs on WebFlux, it adds the {@link ReactiveQueryArgsHandlerMethodResolver}
+ * and the {@link DynamicReactiveExecutor}.</p>
+ *
+ * @author Matheus Eleodoro
+ */
+@AutoConfiguration(after = DynamicSpecAutoConfig.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnClass({WebFluxConfigurer.class, Flux.class})
+@EnableConfigurationProperties(DynamicSpecProperties.class)
+public class DynamicSpecReactiveAutoConfig implements WebFluxConfigurer {
+
+    private final DynamicSpecProperties properties;
+    private final ObjectProvider<DynamicCostModel> costModel;
+    private final ObjectProvider<ContainsStrategies> containsStrategies;
+    private final ObjectProvider<DynamicArgsConverter> converter;
+
+    public DynamicSpecReactiveAutoConfig(DynamicSpecProperties properties, ObjectProvider<DynamicCostModel> costModel,
+                                         ObjectProvider<ContainsStrategies> containsStrategies,
+                                         ObjectProvider<DynamicArgsConverter> converter) {
+        this.properties = properties;
+        this.costModel = costModel;
+        this.containsStrategies = containsStrategies;
+        this.converter = converter;
+    }
+
+    /**
+     * Executor of the queries emitted as {@link Flux}.
+     *
+     * <p>The queries run on virtual threads when {@code spring.threads.virtual.enabled} is set,
+     * otherwise on the bounded elastic scheduler. The virtual thread scheduler is disposed with the context.</p>
+     *
+     * @param environment The environment the threading is read from.
+     * @return The reactive executor.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public DynamicReactiveExecutor dynamicReactiveExecutor(Environment environment) {
+        return Threading.VIRTUAL.isActive(environment) ? DynamicReactiveExecutor.virtual() : new DynamicReactiveExecutor();
+    }
+
+    /**
+     * Adds the {@link ReactiveQueryArgsHandlerMethodResolver} to the custom resolvers. A {@link DynamicCostModel} bean,
+     * when present, replaces the weights configured under {@code dynamic-specification.cost}, and the
+     * {@link ContainsStrategies} bean renders the CT conditional. The {@link DynamicArgsConverter} bean keeps the
+     * cache of the parsed parameters.
+     *
+     * @param configurer The configurer of the argument resolvers.
+     */
+    @Override
+    public void configureArgumentResolvers(@NonNull ArgumentResolverConfigurer configurer) {
+        DynamicCostModel model = costModel.getIfAvailable(() -> properties.getCost().toModel());
+        var strategies = containsStrategies.getIfAvailable(() -> ContainsStrategies.DEFAULT);
+        var argsConverter = converter.getIfAvailable(() -> new DynamicArgsConverter(properties.getArgsCache().getSize()));
+        configurer.addCustomResolver(new ReactiveQueryArgsHandlerMethodResolver(model, strategies, argsConverter));
+    }
+}
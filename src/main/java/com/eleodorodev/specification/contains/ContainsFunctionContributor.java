@@ -0,0 +1,30 @@
+package com.eleodorodev.specification.contains;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * ContainsFunctionContributor
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ * @apiNote Registers the {@value #ANY} function used by {@link ContainsStrategy#ARRAY}, rendered as
+ * {@code attribute = any(?)} so the database can search the index of the attribute with each element of the array.
+ * Loaded by Hibernate through {@code META-INF/services}
+ */
+public class ContainsFunctionContributor implements FunctionContributor {
+
+    /**
+     * Name of the function, receives the attribute and the array parameter
+     */
+    public static final String ANY = "dynamic_any";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry()
+                .patternDescriptorBuilder(ANY, "(?1 = any(?2))")
+                .setInvariantType(functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN))
+                .setExactArgumentCount(2)
+                .register();
+    }
+}
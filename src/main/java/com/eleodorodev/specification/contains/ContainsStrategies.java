@@ -0,0 +1,53 @@
+package com.eleodorodev.specification.contains;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.function.IntFunction;
+
+/**
+ * ContainsStrategies
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ * @apiNote Chooses the {@link ContainsStrategy} used by the CT conditional according to the list size and the database.
+ * Registered as a bean by the auto configuration from {@code dynamic-specification.contains.*} and carried to the bind
+ * by the {@link com.eleodorodev.specification.params.DynamicArgs}, {@link #DEFAULT} is used when none is informed
+ */
+@Getter
+@Builder
+public class ContainsStrategies {
+
+    /**
+     * Selection with the default settings, IN clauses of at most 1000 parameters and no array parameter
+     */
+    public static final ContainsStrategies DEFAULT = ContainsStrategies.builder().build();
+
+    /**
+     * Maximum number of parameters of a single IN clause
+     */
+    @Builder.Default
+    private final int maxParameters = 1000;
+    /**
+     * List size from which a single array parameter is used
+     */
+    @Builder.Default
+    private final int arrayThreshold = 100;
+    /**
+     * Whether the database accepts array parameters
+     */
+    private final boolean arraySupported;
+    /**
+     * Custom selection that receives the list size, replaces the default one when informed
+     */
+    private final IntFunction<ContainsStrategy> selector;
+
+    /**
+     * Strategy for a list with the given size
+     */
+    public ContainsStrategy select(int size) {
+        if (selector != null) return selector.apply(size);
+        if (arraySupported && size >= arrayThreshold) return ContainsStrategy.array(maxParameters);
+        if (size <= maxParameters) return ContainsStrategy.IN;
+        return ContainsStrategy.chunked(maxParameters);
+    }
+}
@@ -0,0 +1,88 @@
+package com.eleodorodev.specification.contains;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ContainsStrategy
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ * @apiNote Defines how the CT conditional renders a list of values
+ * @see ContainsStrategies
+ */
+public interface ContainsStrategy {
+
+    /**
+     * Renders {@code attribute IN (v1, ..., vN)}
+     */
+    ContainsStrategy IN = new ContainsStrategy() {
+        @Override
+        public <T> Predicate toPredicate(CriteriaBuilder builder, Expression<T> attribute, List<T> values) {
+            return attribute.in(values);
+        }
+    };
+
+    /**
+     * Binds the whole list as a single array parameter rendered as {@code attribute = any(?)}, so every list size
+     * shares the same statement and the index of the attribute is still searched. Requires a database accepting
+     * array parameters, such as Postgres and H2. Falls back to {@link #chunked(int)} of 1000 parameters when the
+     * values do not match the attribute type
+     *
+     * @see ContainsFunctionContributor
+     */
+    ContainsStrategy ARRAY = array(1000);
+
+    /**
+     * Binds the whole list as a single array parameter, see {@link #ARRAY}
+     *
+     * @param maxParameters size of the IN clauses used when the values do not match the attribute type
+     */
+    static ContainsStrategy array(int maxParameters) {
+        return new ContainsStrategy() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> Predicate toPredicate(CriteriaBuilder builder, Expression<T> attribute, List<T> values) {
+                Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(attribute.getJavaType());
+                if (!(builder instanceof HibernateCriteriaBuilder hibernate) || !values.stream().allMatch(type::isInstance)) {
+                    return ContainsStrategy.chunked(maxParameters).toPredicate(builder, attribute, values);
+                }
+                T[] array = values.toArray((T[]) Array.newInstance(type, values.size()));
+                return builder.isTrue(builder.function(ContainsFunctionContributor.ANY, Boolean.class, attribute, hibernate.value(array)));
+            }
+        };
+    }
+
+    /**
+     * Splits the list in several IN clauses joined with OR, each one with at most {@code size} parameters
+     */
+    static ContainsStrategy chunked(int size) {
+        return new ContainsStrategy() {
+            @Override
+            public <T> Predicate toPredicate(CriteriaBuilder builder, Expression<T> attribute, List<T> values) {
+                if (values.size() <= size) return attribute.in(values);
+                List<Predicate> predicates = new ArrayList<>();
+                for (int i = 0; i < values.size(); i += size) {
+                    predicates.add(attribute.in(values.subList(i, Math.min(i + size, values.size()))));
+                }
+                return builder.or(predicates.toArray(new Predicate[0]));
+            }
+        };
+    }
+
+    /**
+     * Creates the predicate that checks if the attribute is within the values
+     *
+     * @param builder   criteria builder of the query
+     * @param attribute attribute to be compared
+     * @param values    values of the list, never empty
+     * @return predicate
+     */
+    <T> Predicate toPredicate(CriteriaBuilder builder, Expression<T> attribute, List<T> values);
+}
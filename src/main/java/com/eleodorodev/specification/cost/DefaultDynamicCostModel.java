@@ -0,0 +1,68 @@
+package com.eleodorodev.specification.cost;
+
+import com.eleodorodev.specification.DynamicTerm;
+import com.eleodorodev.specification.enums.Conjunction;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Collection;
+
+/**
+ * DefaultDynamicCostModel
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ * @apiNote Weighs each term by conditional, index usage, join depth, IN-list size and OR fan-out
+ */
+@Getter
+@Builder
+public class DefaultDynamicCostModel implements DynamicCostModel {
+
+    @Builder.Default
+    private final double equal = 1;
+    @Builder.Default
+    private final double range = 2;
+    @Builder.Default
+    private final double like = 20;
+    @Builder.Default
+    private final double contains = 1;
+    /**
+     * Added for each element of a CT list
+     */
+    @Builder.Default
+    private final double containsElement = 0.01;
+    /**
+     * Added for each entry of {@code parents}
+     */
+    @Builder.Default
+    private final double join = 3;
+    /**
+     * Multiplier applied to attributes declared with {@code indexed = false}
+     */
+    @Builder.Default
+    private final double unindexed = 10;
+    /**
+     * Multiplier applied to negated terms
+     */
+    @Builder.Default
+    private final double negate = 2;
+    /**
+     * Multiplier applied to terms joined with OR
+     */
+    @Builder.Default
+    private final double or = 3;
+
+    @Override
+    public double cost(DynamicTerm term) {
+        double cost = switch (term.conditional()) {
+            case LK -> like;
+            case CT -> contains + containsElement * (term.value() instanceof Collection<?> list ? list.size() : 1);
+            case BW, GT, GTE, LT, LTE, ON, IM, LD, RG -> range;
+            default -> equal;
+        };
+        if (!term.specAttr().indexed()) cost *= unindexed;
+        if (term.negate()) cost *= negate;
+        cost += join * term.specAttr().parents().length;
+        if (term.conjunction() == Conjunction.OR) cost *= or;
+        return cost;
+    }
+}
@@ -0,0 +1,28 @@
+package com.eleodorodev.specification.cost;
+
+import com.eleodorodev.specification.DynamicTerm;
+
+/**
+ * DynamicCostModel
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ * @apiNote Estimates the cost of a single term, summed by the {@link DynamicQueryBudget} and compared with the
+ * {@link com.eleodorodev.specification.params.annotation.DynamicParam#budget()}. Registering a bean of this type
+ * replaces the weights configured under {@code dynamic-specification.cost}
+ */
+@FunctionalInterface
+public interface DynamicCostModel {
+
+    /**
+     * Model with the default weights of the {@link DefaultDynamicCostModel}
+     */
+    DynamicCostModel DEFAULT = DefaultDynamicCostModel.builder().build();
+
+    /**
+     * Estimated cost of the term
+     *
+     * @param term term resolved by the bind
+     * @return cost of the term, in the unit of the budget
+     */
+    double cost(DynamicTerm term);
+}
@@ -0,0 +1,111 @@
+package com.eleodorodev.specification.cost;
+
+import com.eleodorodev.specification.DynamicTerm;
+import com.eleodorodev.specification.enums.CostPolicy;
+import com.eleodorodev.specification.exception.DynamicParamValidationException;
+import com.eleodorodev.specification.params.DynamicArgs;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * DynamicQueryBudget
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ * @apiNote Checks the estimated cost of the terms of a bind against the budget declared on
+ * {@link com.eleodorodev.specification.params.annotation.DynamicParam#budget()}
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DynamicQueryBudget {
+
+    /**
+     * Enforces the budget of the {@link DynamicArgs}
+     *
+     * @param root  class with the {@link com.eleodorodev.specification.annotation.DynamicSpecAttr} annotations
+     * @param terms terms resolved by the bind
+     * @param args  arguments carrying the budget, policy and cost model
+     * @return the terms to be applied, downgraded when {@link CostPolicy#DOWNGRADE} is used
+     * @throws DynamicParamValidationException when the terms exceed the budget
+     */
+    public static List<DynamicTerm> enforce(Class<?> root, List<DynamicTerm> terms, DynamicArgs args) throws DynamicParamValidationException {
+        return enforce(root, terms, List.of(), args);
+    }
+
+    /**
+     * Enforces the budget of the {@link DynamicArgs} over the terms and the fixed terms together, only the terms
+     * are downgraded
+     *
+     * @param root  class with the {@link com.eleodorodev.specification.annotation.DynamicSpecAttr} annotations
+     * @param terms terms resolved by the bind
+     * @param fixed terms applied as they are, such as the ones of the filter expression
+     * @param args  arguments carrying the budget, policy and cost model
+     * @return the terms to be applied, downgraded when {@link CostPolicy#DOWNGRADE} is used
+     * @throws DynamicParamValidationException when the terms exceed the budget
+     */
+    public static List<DynamicTerm> enforce(Class<?> root, List<DynamicTerm> terms, List<DynamicTerm> fixed,
+                                            DynamicArgs args) throws DynamicParamValidationException {
+        double budget = args.budget();
+        if (budget <= 0 || terms.isEmpty() && fixed.isEmpty()) return terms;
+
+        DynamicCostModel model = Objects.requireNonNullElse(args.costModel(), DynamicCostModel.DEFAULT);
+        List<DynamicTerm> result = new ArrayList<>(terms);
+        double fixedCost = total(model, fixed);
+
+        if (fixedCost + total(model, result) > budget && args.costPolicy() == CostPolicy.DOWNGRADE) {
+            List<Integer> indexes = new ArrayList<>();
+            for (int i = 0; i < result.size(); i++) {
+                if (result.get(i).isOverridden()) indexes.add(i);
+            }
+            indexes.sort(Comparator.comparingDouble((Integer i) -> model.cost(result.get(i))).reversed());
+
+            for (Integer i : indexes) {
+                if (fixedCost + total(model, result) <= budget) break;
+                result.set(i, result.get(i).withDefaults());
+            }
+        }
+
+        List<DynamicTerm> all = new ArrayList<>(result);
+        all.addAll(fixed);
+        check(root, all, args);
+        return result;
+    }
+
+    /**
+     * Rejects the terms exceeding the budget of the {@link DynamicArgs}, without downgrading them
+     *
+     * @param root  class with the {@link com.eleodorodev.specification.annotation.DynamicSpecAttr} annotations
+     * @param terms terms to be applied
+     * @param args  arguments carrying the budget and cost model
+     * @throws DynamicParamValidationException when the terms exceed the budget
+     */
+    public static void check(Class<?> root, List<DynamicTerm> terms, DynamicArgs args) throws DynamicParamValidationException {
+        double budget = args.budget();
+        if (budget <= 0 || terms.isEmpty()) return;
+
+        DynamicCostModel model = Objects.requireNonNullElse(args.costModel(), DynamicCostModel.DEFAULT);
+        double total = total(model, terms);
+        if (total <= budget) return;
+
+        List<DynamicTerm> sorted = new ArrayList<>(terms);
+        sorted.sort(Comparator.comparingDouble(model::cost).reversed());
+
+        Set<Object> violations = new LinkedHashSet<>();
+        double remaining = total;
+        for (DynamicTerm term : sorted) {
+            if (remaining <= budget) break;
+            double cost = model.cost(term);
+            violations.add(term + " (cost " + cost + ")");
+            remaining -= cost;
+        }
+
+        throw new DynamicParamValidationException("DynamicArgs query cost " + total + " exceeds the budget of " + budget +
+            ". Offending terms: " + violations.stream().map(Object::toString).collect(Collectors.joining(", ")),
+            root, violations);
+    }
+
+    private static double total(DynamicCostModel model, List<DynamicTerm> terms) {
+        return terms.stream().mapToDouble(model::cost).sum();
+    }
+}
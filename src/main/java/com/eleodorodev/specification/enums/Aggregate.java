@@ -0,0 +1,15 @@
+package com.eleodorodev.specification.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum Aggregate {
+  COUNT("Count"),
+  SUM("Sum"),
+  AVG("Average"),
+  MIN("Minimum"),
+  MAX("Maximum");
+  private final String description;
+}
@@ -14,6 +14,17 @@ public enum Conditional {
   LT("LessThan"),
   LTE("LessThanEqualTo"),
   GTE("GreaterThanEqualTo"),
-  NOT("Negate");
+  NOT("Negate"),
+  ON("OnDay"),
+  IM("InMonth"),
+  LD("LastDays"),
+  RG("Range");
   private final String description;
+
+  /**
+   * Whether the conditional filters a date range, see {@link com.eleodorodev.specification.temporal.DynamicTemporal}
+   */
+  public boolean isTemporal() {
+    return this == ON || this == IM || this == LD || this == RG;
+  }
 }
@@ -0,0 +1,12 @@
+package com.eleodorodev.specification.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum CostPolicy {
+  REJECT("Reject"),
+  DOWNGRADE("Downgrade");
+  private final String description;
+}
@@ -0,0 +1,13 @@
+package com.eleodorodev.specification.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum JoinMode {
+  AUTO("Auto"),
+  JOIN("Join"),
+  EXISTS("Exists");
+  private final String description;
+}
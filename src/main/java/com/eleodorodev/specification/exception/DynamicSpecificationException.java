@@ -5,6 +5,10 @@ package com.eleodorodev.specification.exception;
  * @apiNote Custom RuntimeException
  */
 public class DynamicSpecificationException extends RuntimeException {
+    public DynamicSpecificationException(String message) {
+        super(message);
+    }
+
     public DynamicSpecificationException(String message, Throwable cause) {
         super(message, cause);
     }
@@ -0,0 +1,155 @@
+package com.eleodorodev.specification.expression;
+
+import com.eleodorodev.specification.DynamicSpecification;
+import com.eleodorodev.specification.DynamicTerm;
+import com.eleodorodev.specification.annotation.DynamicSpecAttr;
+import com.eleodorodev.specification.contains.ContainsStrategies;
+import com.eleodorodev.specification.cost.DynamicQueryBudget;
+import com.eleodorodev.specification.enums.Conditional;
+import com.eleodorodev.specification.enums.Conjunction;
+import com.eleodorodev.specification.exception.DynamicParamArgumentException;
+import com.eleodorodev.specification.exception.DynamicParamValidationException;
+import com.eleodorodev.specification.params.DynamicArgs;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.ConcurrentLruCache;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * DynamicExpression
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ * @apiNote Filter expression with grouping and precedence over the {@link DynamicSpecAttr} properties, received in
+ * search mode. NOT binds tighter than AND, which binds tighter than OR
+ * <pre>
+ * (name:LK:usa OR name:LK:'new york') AND NOT population:LT:1000
+ * </pre>
+ * Parsed expressions are cached by their text
+ * @see DynamicExpressionParser
+ */
+public sealed interface DynamicExpression {
+
+    /**
+     * Maximum number of cached expressions
+     */
+    int CACHE_SIZE = 256;
+
+    record And(List<DynamicExpression> operands) implements DynamicExpression {
+    }
+
+    record Or(List<DynamicExpression> operands) implements DynamicExpression {
+    }
+
+    record Not(DynamicExpression operand) implements DynamicExpression {
+    }
+
+    /**
+     * @param property    property or alias of a {@link DynamicSpecAttr}
+     * @param conditional conditional applied to the property, the one of the {@link DynamicSpecAttr} when null
+     * @param value       value parsed as in the query string, lists separated by comma
+     */
+    record Term(String property, Conditional conditional, Object value) implements DynamicExpression {
+    }
+
+    /**
+     * Parses the expression, reusing the tree of an expression already parsed
+     *
+     * @throws DynamicParamArgumentException when the expression is invalid
+     */
+    static DynamicExpression parse(String expression) throws DynamicParamArgumentException {
+        return Cache.EXPRESSIONS.get(expression);
+    }
+
+    /**
+     * Compiles the expression of the {@link DynamicArgs} into a single {@link Specification}
+     *
+     * @param clazz class with the annotation {@link DynamicSpecAttr}
+     * @param args  arguments carrying the expression and the query budget
+     * @return {@link Specification}
+     * @throws DynamicParamValidationException when a property is unknown or the budget is exceeded
+     */
+    static <R> Specification<R> compile(Class<?> clazz, DynamicArgs args) throws DynamicParamValidationException {
+        List<DynamicTerm> terms = new ArrayList<>();
+        Specification<R> spec = compile(clazz, args, terms);
+        DynamicQueryBudget.check(clazz, terms, args);
+        return spec;
+    }
+
+    /**
+     * Compiles the expression of the {@link DynamicArgs} without checking the budget, collecting its terms to be
+     * checked together with the other terms of the bind
+     *
+     * @param clazz class with the annotation {@link DynamicSpecAttr}
+     * @param args  arguments carrying the expression
+     * @param terms receives the terms of the expression
+     * @return {@link Specification}
+     * @throws DynamicParamValidationException when a property is unknown
+     */
+    static <R> Specification<R> compile(Class<?> clazz, DynamicArgs args, List<DynamicTerm> terms) throws DynamicParamValidationException {
+        DynamicExpression expression = parse(args.expression());
+        Map<String, DynamicSpecAttr> attributes = Cache.ATTRIBUTES.get(clazz);
+        return compile(clazz, expression, attributes, Conjunction.AND, false, terms, args.containsStrategies());
+    }
+
+    private static <R> Specification<R> compile(Class<?> clazz, DynamicExpression expression, Map<String, DynamicSpecAttr> attributes,
+                                                Conjunction conjunction, boolean negate, List<DynamicTerm> terms,
+                                                ContainsStrategies strategies) {
+        return switch (expression) {
+            case And and -> {
+                Specification<R> spec = null;
+                for (DynamicExpression operand : and.operands()) {
+                    Specification<R> operandSpec = compile(clazz, operand, attributes, conjunction, negate, terms, strategies);
+                    spec = spec == null ? Specification.where(operandSpec) : spec.and(operandSpec);
+                }
+                yield spec;
+            }
+            case Or or -> {
+                Specification<R> spec = null;
+                for (DynamicExpression operand : or.operands()) {
+                    Specification<R> operandSpec = compile(clazz, operand, attributes, Conjunction.OR, negate, terms, strategies);
+                    spec = spec == null ? Specification.where(operandSpec) : spec.or(operandSpec);
+                }
+                yield spec;
+            }
+            case Not not -> DynamicSpecification.not(compile(clazz, not.operand(), attributes, conjunction, !negate, terms, strategies));
+            case Term term -> {
+                DynamicSpecAttr specAttr = attributes.get(term.property());
+                if (specAttr == null) {
+                    throw new DynamicParamValidationException("Filter expression property '" + term.property() + "' is not allowed.", clazz);
+                }
+                Conditional conditional = Objects.requireNonNullElse(term.conditional(), specAttr.conditional());
+                Object value = conditional == Conditional.CT && !(term.value() instanceof List) ? List.of(term.value()) : term.value();
+                terms.add(new DynamicTerm(specAttr, conjunction, conditional, negate, value));
+                yield DynamicSpecification.Binder.toSpecification(List.of(new DynamicTerm(specAttr, Conjunction.AND, conditional, false, value)), strategies);
+            }
+        };
+    }
+
+    /**
+     * Caches of the parsed expressions and of the annotated properties of each class
+     */
+    final class Cache {
+
+        static final ConcurrentLruCache<String, DynamicExpression> EXPRESSIONS =
+                new ConcurrentLruCache<>(CACHE_SIZE, text -> new DynamicExpressionParser(text).parse());
+
+        static final ClassValue<Map<String, DynamicSpecAttr>> ATTRIBUTES = new ClassValue<>() {
+            @Override
+            protected Map<String, DynamicSpecAttr> computeValue(Class<?> type) {
+                Map<String, DynamicSpecAttr> attributes = new HashMap<>();
+                Stream.of(type.getDeclaredFields())
+                        .flatMap(field -> AnnotatedElementUtils.findAllMergedAnnotations(field, DynamicSpecAttr.class).stream())
+                        .forEach(specAttr -> {
+                            attributes.put(specAttr.property(), specAttr);
+                            if (!specAttr.alias().isEmpty()) attributes.put(specAttr.alias(), specAttr);
+                        });
+                return Collections.unmodifiableMap(attributes);
+            }
+        };
+
+        private Cache() {
+        }
+    }
+}
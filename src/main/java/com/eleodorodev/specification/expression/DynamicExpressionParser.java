@@ -0,0 +1,181 @@
+package com.eleodorodev.specification.expression;
+
+import com.eleodorodev.specification.enums.Conditional;
+import com.eleodorodev.specification.exception.DynamicParamArgumentException;
+import com.eleodorodev.specification.params.DynamicArgsConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * DynamicExpressionParser
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ * @apiNote Recursive descent parser of {@link DynamicExpression}, one instance per expression
+ * <pre>
+ * or      = and { "OR" and }
+ * and     = unary { "AND" unary }
+ * unary   = "NOT" unary | "(" or ")" | term
+ * term    = property ":" [ conditional ":" ] value
+ * value   = "'" text "'" | text
+ * </pre>
+ * Keywords and conditionals are case-insensitive, quotes inside quoted values are escaped by doubling them.
+ * Unquoted values are converted as in the query string, lists separated by comma
+ */
+final class DynamicExpressionParser {
+
+    /**
+     * Maximum nesting of groups and negations
+     */
+    static final int MAX_DEPTH = 32;
+
+    private final String text;
+    private int position;
+    private int depth;
+
+    DynamicExpressionParser(String text) {
+        this.text = text == null ? "" : text;
+    }
+
+    DynamicExpression parse() throws DynamicParamArgumentException {
+        skipSpaces();
+        if (position == text.length()) throw error("Filter expression is empty");
+        DynamicExpression expression = or();
+        skipSpaces();
+        if (position < text.length()) throw error("Unexpected '" + text.charAt(position) + "'");
+        return expression;
+    }
+
+    private DynamicExpression or() {
+        List<DynamicExpression> operands = new ArrayList<>(List.of(and()));
+        while (keyword("OR")) {
+            operands.add(and());
+        }
+        return operands.size() == 1 ? operands.getFirst() : new DynamicExpression.Or(List.copyOf(operands));
+    }
+
+    private DynamicExpression and() {
+        List<DynamicExpression> operands = new ArrayList<>(List.of(unary()));
+        while (keyword("AND")) {
+            operands.add(unary());
+        }
+        return operands.size() == 1 ? operands.getFirst() : new DynamicExpression.And(List.copyOf(operands));
+    }
+
+    private DynamicExpression unary() {
+        if (++depth > MAX_DEPTH) throw error("Filter expression nested deeper than " + MAX_DEPTH + " levels");
+        try {
+            if (keyword("NOT")) return new DynamicExpression.Not(unary());
+
+            skipSpaces();
+            if (peek() == '(') {
+                position++;
+                DynamicExpression group = or();
+                skipSpaces();
+                if (peek() != ')') throw error("Expected ')'");
+                position++;
+                return group;
+            }
+            return term();
+        } finally {
+            depth--;
+        }
+    }
+
+    private DynamicExpression term() {
+        skipSpaces();
+        int start = position;
+        while (position < text.length() && (Character.isLetterOrDigit(peek()) || peek() == '_' || peek() == '.')) {
+            position++;
+        }
+        if (start == position) throw error("Expected a property");
+        String property = text.substring(start, position);
+        expect(':');
+
+        Conditional conditional = null;
+        if (peek() != '\'') {
+            int mark = position;
+            String segment = bare();
+            if (peek() == ':' && isConditional(segment)) {
+                conditional = Conditional.valueOf(segment.toUpperCase(Locale.ROOT));
+                position++;
+            } else {
+                position = mark;
+            }
+        }
+        return new DynamicExpression.Term(property, conditional, value());
+    }
+
+    private Object value() {
+        if (peek() != '\'') {
+            String value = bare();
+            if (value.isEmpty()) throw error("Expected a value");
+            return value.contains(",")
+                    ? Stream.of(value.split(",")).map(DynamicArgsConverter::parseNumber).toList()
+                    : DynamicArgsConverter.parseNumber(value);
+        }
+
+        StringBuilder value = new StringBuilder();
+        position++;
+        while (position < text.length()) {
+            char c = text.charAt(position++);
+            if (c != '\'') {
+                value.append(c);
+            } else if (peek() == '\'') {
+                value.append(c);
+                position++;
+            } else {
+                return value.toString();
+            }
+        }
+        throw error("Unterminated quoted value");
+    }
+
+    /**
+     * Reads an unquoted segment, ended by a space, colon or closing parenthesis
+     */
+    private String bare() {
+        int start = position;
+        while (position < text.length() && !Character.isWhitespace(peek()) && peek() != ':' && peek() != ')') {
+            position++;
+        }
+        return text.substring(start, position);
+    }
+
+    /**
+     * Consumes the keyword when it is the next word of the expression
+     */
+    private boolean keyword(String keyword) {
+        skipSpaces();
+        int end = position + keyword.length();
+        if (end > text.length() || !text.regionMatches(true, position, keyword, 0, keyword.length())) return false;
+        if (end < text.length() && !Character.isWhitespace(text.charAt(end)) && text.charAt(end) != '(') return false;
+        position = end;
+        return true;
+    }
+
+    private void expect(char expected) {
+        if (peek() != expected) throw error("Expected '" + expected + "'");
+        position++;
+    }
+
+    private char peek() {
+        return position < text.length() ? text.charAt(position) : '\0';
+    }
+
+    private void skipSpaces() {
+        while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+    }
+
+    private static boolean isConditional(String segment) {
+        return Stream.of(Conditional.values()).anyMatch(conditional -> conditional.name().equalsIgnoreCase(segment));
+    }
+
+    private DynamicParamArgumentException error(String message) {
+        return new DynamicParamArgumentException(message + " at position " + position + " of filter expression '" + text + "'.");
+    }
+}
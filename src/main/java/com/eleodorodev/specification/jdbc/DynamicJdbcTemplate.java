@@ -0,0 +1,205 @@
+package com.eleodorodev.specification.jdbc;
+
+import com.eleodorodev.specification.DynamicSpecification;
+import com.eleodorodev.specification.DynamicTerm;
+import com.eleodorodev.specification.cost.DynamicQueryBudget;
+import com.eleodorodev.specification.exception.DynamicSpecificationException;
+import com.eleodorodev.specification.params.DynamicArgs;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.DataClassRowMapper;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import java.lang.reflect.RecordComponent;
+import java.sql.DatabaseMetaData;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * DynamicJdbcTemplate
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ * @apiNote Read-only alternative to {@link DynamicSpecification#bind} that compiles the {@link DynamicArgs} to plain
+ * SQL and maps the rows straight to records or DTOs, skipping the criteria pipeline and the entity hydration.
+ * Column and join metadata are resolved once per entity from the JPA metamodel
+ */
+public class DynamicJdbcTemplate {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final SessionFactoryImplementor sessionFactory;
+    private final Map<Class<?>, JdbcEntityMetadata> metadata = new ConcurrentHashMap<>();
+    private final Map<Class<?>, RowMapper<?>> mappers = new ConcurrentHashMap<>();
+    private volatile Boolean limitOffset;
+
+    public DynamicJdbcTemplate(NamedParameterJdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    }
+
+    /**
+     * findAll
+     *
+     * @param entity entity annotated with {@link com.eleodorodev.specification.annotation.DynamicSpecAttr}
+     * @param args   arguments of the filter
+     * @param sort   order of the rows
+     * @param type   record or DTO receiving the rows, its properties are matched with the entity attributes
+     * @return rows matching the filter
+     */
+    public <R> List<R> findAll(Class<?> entity, DynamicArgs args, Sort sort, Class<R> type) {
+        return findAll(entity, entity, args, sort, type);
+    }
+
+    /**
+     * findAll with the filter declared in another class
+     *
+     * @param entity    entity queried
+     * @param annotated class with the annotation {@link com.eleodorodev.specification.annotation.DynamicSpecAttr}, such as a DTO
+     * @param args      arguments of the filter
+     * @param sort      order of the rows
+     * @param type      record or DTO receiving the rows, its properties are matched with the entity attributes
+     * @return rows matching the filter
+     */
+    public <R> List<R> findAll(Class<?> entity, Class<?> annotated, DynamicArgs args, Sort sort, Class<R> type) {
+        var compiled = compile(entity, annotated, args);
+        return jdbcTemplate.query(select(compiled, type) + orderBy(compiled.compiler(), sort), compiled.sql().parameters(), mapper(type));
+    }
+
+    /**
+     * findAll paged
+     *
+     * @param entity   entity annotated with {@link com.eleodorodev.specification.annotation.DynamicSpecAttr}
+     * @param args     arguments of the filter
+     * @param pageable page to be returned
+     * @param type     record or DTO receiving the rows
+     * @return page of rows matching the filter
+     */
+    public <R> Page<R> findAll(Class<?> entity, DynamicArgs args, Pageable pageable, Class<R> type) {
+        return findAll(entity, entity, args, pageable, type);
+    }
+
+    /**
+     * findAll paged with the filter declared in another class
+     *
+     * @param entity    entity queried
+     * @param annotated class with the annotation {@link com.eleodorodev.specification.annotation.DynamicSpecAttr}, such as a DTO
+     * @param args      arguments of the filter
+     * @param pageable  page to be returned
+     * @param type      record or DTO receiving the rows
+     * @return page of rows matching the filter
+     */
+    public <R> Page<R> findAll(Class<?> entity, Class<?> annotated, DynamicArgs args, Pageable pageable, Class<R> type) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(findAll(entity, annotated, args, pageable.getSort(), type));
+        }
+        var compiled = compile(entity, annotated, args);
+        String sql = select(compiled, type) + orderBy(compiled.compiler(), pageable.getSort()) + limit(pageable);
+        List<R> content = jdbcTemplate.query(sql, compiled.sql().parameters(), mapper(type));
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + compiled.sql().from() + compiled.sql().where(),
+                compiled.sql().parameters(), Long.class);
+        return new PageImpl<>(content, pageable, Objects.requireNonNullElse(total, 0L));
+    }
+
+    /**
+     * stream
+     *
+     * @param entity entity annotated with {@link com.eleodorodev.specification.annotation.DynamicSpecAttr}
+     * @param args   arguments of the filter
+     * @param sort   order of the rows
+     * @param type   record or DTO receiving the rows
+     * @return lazy stream of the rows, must be closed to release the connection
+     */
+    public <R> Stream<R> stream(Class<?> entity, DynamicArgs args, Sort sort, Class<R> type) {
+        return stream(entity, entity, args, sort, type);
+    }
+
+    /**
+     * stream with the filter declared in another class
+     *
+     * @param entity    entity queried
+     * @param annotated class with the annotation {@link com.eleodorodev.specification.annotation.DynamicSpecAttr}, such as a DTO
+     * @param args      arguments of the filter
+     * @param sort      order of the rows
+     * @param type      record or DTO receiving the rows
+     * @return lazy stream of the rows, must be closed to release the connection
+     */
+    public <R> Stream<R> stream(Class<?> entity, Class<?> annotated, DynamicArgs args, Sort sort, Class<R> type) {
+        var compiled = compile(entity, annotated, args);
+        return jdbcTemplate.queryForStream(select(compiled, type) + orderBy(compiled.compiler(), sort), compiled.sql().parameters(), mapper(type));
+    }
+
+    /**
+     * Compiles the filter of an entity whose annotations may be declared in another class, such as a DTO
+     */
+    private Compiled compile(Class<?> entity, Class<?> annotated, DynamicArgs args) {
+        DynamicArgs dynamicArgs = Objects.requireNonNullElse(args, DynamicArgs.instance());
+        if (dynamicArgs.search() && dynamicArgs.expression() != null) {
+            throw new DynamicSpecificationException("Filter expressions are not supported by the JDBC backend");
+        }
+        List<DynamicTerm> terms = DynamicQueryBudget.enforce(annotated, DynamicSpecification.Binder.terms(annotated, dynamicArgs), dynamicArgs);
+        DynamicSqlCompiler compiler = new DynamicSqlCompiler(this::metadata, entity, dynamicArgs.containsStrategies().getMaxParameters());
+        return new Compiled(compiler, compiler.compile(terms), metadata(entity));
+    }
+
+    private record Compiled(DynamicSqlCompiler compiler, DynamicSqlCompiler.DynamicSql sql, JdbcEntityMetadata entity) {
+    }
+
+    private JdbcEntityMetadata metadata(Class<?> entity) {
+        return metadata.computeIfAbsent(entity, type -> JdbcEntityMetadata.of(sessionFactory, type));
+    }
+
+    /**
+     * SELECT of the entity attributes read by the type, all basic attributes when they can not be determined
+     */
+    private String select(Compiled compiled, Class<?> type) {
+        List<String> attributes = compiled.entity().attributes();
+        if (type.isRecord()) {
+            Set<String> components = Stream.of(type.getRecordComponents()).map(RecordComponent::getName).collect(Collectors.toSet());
+            List<String> read = attributes.stream().filter(components::contains).toList();
+            attributes = read.isEmpty() ? attributes : read;
+        }
+        return attributes.stream()
+                .map(attribute -> compiled.compiler().column(attribute) + " AS " + attribute)
+                .collect(Collectors.joining(", ", "SELECT ", " FROM " + compiled.sql().from() + compiled.sql().where()));
+    }
+
+    private String orderBy(DynamicSqlCompiler compiler, Sort sort) {
+        if (sort == null || sort.isUnsorted()) return "";
+        return sort.stream()
+                .map(order -> compiler.column(order.getProperty()) + (order.isAscending() ? " ASC" : " DESC"))
+                .collect(Collectors.joining(", ", " ORDER BY ", ""));
+    }
+
+    private String limit(Pageable pageable) {
+        if (limitOffset == null) {
+            limitOffset = EnumSet.of(DatabaseDriver.MYSQL, DatabaseDriver.MARIADB).contains(databaseDriver());
+        }
+        return limitOffset
+                ? " LIMIT " + pageable.getPageSize() + " OFFSET " + pageable.getOffset()
+                : " OFFSET " + pageable.getOffset() + " ROWS FETCH NEXT " + pageable.getPageSize() + " ROWS ONLY";
+    }
+
+    private DatabaseDriver databaseDriver() {
+        try {
+            String name = JdbcUtils.extractDatabaseMetaData(Objects.requireNonNull(jdbcTemplate.getJdbcTemplate().getDataSource()),
+                    DatabaseMetaData::getDatabaseProductName);
+            return DatabaseDriver.fromProductName(name);
+        } catch (MetaDataAccessException e) {
+            return DatabaseDriver.UNKNOWN;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> RowMapper<R> mapper(Class<R> type) {
+        return (RowMapper<R>) mappers.computeIfAbsent(type, DataClassRowMapper::new);
+    }
+}
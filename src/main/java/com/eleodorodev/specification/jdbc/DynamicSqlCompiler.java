@@ -0,0 +1,163 @@
+package com.eleodorodev.specification.jdbc;
+
+import com.eleodorodev.specification.DynamicFilter;
+import com.eleodorodev.specification.DynamicTerm;
+import com.eleodorodev.specification.annotation.DynamicSpecAttr;
+import com.eleodorodev.specification.enums.Conjunction;
+import com.eleodorodev.specification.enums.JoinMode;
+import com.eleodorodev.specification.exception.DynamicSpecificationException;
+import com.eleodorodev.specification.params.DynamicArgsConverter;
+import com.eleodorodev.specification.temporal.DynamicTemporal;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.util.StringUtils;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * DynamicSqlCompiler
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ * @apiNote Compiles the terms of a bind into the FROM and WHERE clauses of a parameterized SQL, following the same
+ * rules of {@link DynamicFilter}. Only to-one associations are supported in the parents path
+ */
+final class DynamicSqlCompiler {
+
+    static final String ROOT_ALIAS = "t0";
+
+    private final Function<Class<?>, JdbcEntityMetadata> metadata;
+    private final JdbcEntityMetadata root;
+    private final Map<String, String> aliases = new LinkedHashMap<>();
+    private final Map<String, JdbcEntityMetadata> joined = new HashMap<>();
+    private final StringBuilder joins = new StringBuilder();
+    private final MapSqlParameterSource parameters = new MapSqlParameterSource();
+    private final int maxParameters;
+
+    DynamicSqlCompiler(Function<Class<?>, JdbcEntityMetadata> metadata, Class<?> entity, int maxParameters) {
+        this.metadata = metadata;
+        this.maxParameters = maxParameters;
+        this.root = metadata.apply(entity);
+        aliases.put("", ROOT_ALIAS);
+        joined.put("", root);
+    }
+
+    /**
+     * Compiled SQL
+     *
+     * @param from       FROM clause with the joins of the parents paths
+     * @param where      WHERE clause, empty when there is no filter
+     * @param parameters named parameters of the WHERE clause
+     */
+    record DynamicSql(String from, String where, MapSqlParameterSource parameters) {
+    }
+
+    DynamicSql compile(List<DynamicTerm> terms) {
+        String where = null;
+        for (DynamicTerm term : terms) {
+            String predicate = predicate(term);
+            if (predicate == null) continue;
+            where = where == null ? predicate : "(" + where + ") " + (term.conjunction() == Conjunction.OR ? "OR" : "AND") + " (" + predicate + ")";
+        }
+        String from = root.table() + " " + ROOT_ALIAS + joins;
+        return new DynamicSql(from, where == null ? "" : " WHERE " + where, parameters);
+    }
+
+    /**
+     * Column of a root attribute qualified with its alias
+     */
+    String column(String attribute) {
+        return ROOT_ALIAS + "." + root.column(attribute);
+    }
+
+    private String predicate(DynamicTerm term) {
+        Object value = term.value();
+        String column = column(term);
+        String predicate = switch (term.conditional()) {
+            case LK -> value != null && StringUtils.hasText(String.valueOf(value))
+                    ? "LOWER(" + column + ") LIKE " + parameter("%" + String.valueOf(value).toLowerCase(Locale.ROOT) + "%") : null;
+            case CT -> DynamicFilter.isNotEmpty(value) ? contains(column, DynamicFilter.castList(value)) : null;
+            case BW -> between(column, DynamicFilter.castList(value));
+            case GT -> comparison(column, ">", value);
+            case GTE -> comparison(column, ">=", value);
+            case LT -> comparison(column, "<", value);
+            case LTE -> comparison(column, "<=", value);
+            case ON, IM, LD, RG -> DynamicFilter.isNotEmpty(value) ? temporal(column, term) : null;
+            default -> DynamicFilter.isNotEmpty(value) ? column + " = " + parameter(value) : null;
+        };
+        return predicate != null && term.negate() && !isComparison(term) ? "NOT (" + predicate + ")" : predicate;
+    }
+
+    private String contains(String column, List<Object> values) {
+        int size = maxParameters;
+        List<String> chunks = new ArrayList<>();
+        for (int i = 0; i < values.size(); i += size) {
+            chunks.add(column + " IN (" + parameter(new ArrayList<>(values.subList(i, Math.min(i + size, values.size())))) + ")");
+        }
+        return String.join(" OR ", chunks);
+    }
+
+    private String between(String column, List<Object> values) {
+        if (values.size() < 2 || !DynamicFilter.isNotEmpty(values.getFirst()) || !DynamicFilter.isNotEmpty(values.get(1))) return null;
+        return column + " BETWEEN " + parameter(values.getFirst()) + " AND " + parameter(values.get(1));
+    }
+
+    /**
+     * Half-open range of a temporal conditional, converted to the java type of the column
+     */
+    private String temporal(String column, DynamicTerm term) {
+        DynamicSpecAttr specAttr = term.specAttr();
+        Class<?> type = joined.get(String.join(".", specAttr.parents())).javaType(specAttr.property());
+        DynamicTemporal.Range range = DynamicTemporal.range(term.conditional(), term.value(), DynamicTemporal.zone(specAttr.zone()));
+        List<String> bounds = new ArrayList<>();
+        if (range.start() != null) bounds.add(column + " >= " + parameter(DynamicTemporal.convert(range.start(), type, false)));
+        if (range.end() != null) bounds.add(column + " < " + parameter(DynamicTemporal.convert(range.end(), type, true)));
+        return bounds.isEmpty() ? null : String.join(" AND ", bounds);
+    }
+
+    private String comparison(String column, String operator, Object value) {
+        Object number = DynamicArgsConverter.parseNumber(value.toString());
+        return DynamicFilter.isNotEmpty(number) ? column + " " + operator + " " + parameter(number) : null;
+    }
+
+    /**
+     * Comparisons ignore the negation, as the criteria backend does
+     */
+    private static boolean isComparison(DynamicTerm term) {
+        return switch (term.conditional()) {
+            case GT, GTE, LT, LTE -> true;
+            default -> false;
+        };
+    }
+
+    private String parameter(Object value) {
+        String name = "p" + parameters.getValues().size();
+        parameters.addValue(name, value);
+        return ":" + name;
+    }
+
+    /**
+     * Column of the term, joining its parents path
+     */
+    private String column(DynamicTerm term) {
+        String[] parents = term.specAttr().parents();
+        if (parents.length > 0 && term.specAttr().join() == JoinMode.EXISTS) {
+            throw new DynamicSpecificationException("EXISTS join mode of '" + term.specAttr().property() + "' is not supported by the JDBC backend");
+        }
+        String path = "";
+        for (String parent : parents) {
+            String parentPath = path;
+            path = path.isEmpty() ? parent : path + "." + parent;
+            if (!aliases.containsKey(path)) {
+                JdbcEntityMetadata owner = joined.get(parentPath);
+                JdbcEntityMetadata target = metadata.apply(owner.association(parent));
+                String alias = "t" + aliases.size();
+                joins.append(" JOIN ").append(target.table()).append(' ').append(alias)
+                        .append(" ON ").append(alias).append('.').append(target.idColumn())
+                        .append(" = ").append(aliases.get(parentPath)).append('.').append(owner.column(parent));
+                aliases.put(path, alias);
+                joined.put(path, target);
+            }
+        }
+        return aliases.get(path) + "." + joined.get(path).column(term.specAttr().property());
+    }
+}
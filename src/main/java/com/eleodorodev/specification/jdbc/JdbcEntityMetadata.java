@@ -0,0 +1,96 @@
+package com.eleodorodev.specification.jdbc;
+
+import com.eleodorodev.specification.exception.DynamicSpecificationException;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JdbcEntityMetadata
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ * @apiNote Table, columns and to-one associations of an entity, resolved once from the metamodel
+ */
+@Getter
+@Accessors(fluent = true)
+final class JdbcEntityMetadata {
+
+    private final Class<?> entity;
+    private final String table;
+    private final String idColumn;
+    /**
+     * Basic attributes of the entity, used as select list
+     */
+    private final List<String> attributes;
+
+    @Getter(AccessLevel.NONE)
+    private final EntityType<?> type;
+    @Getter(AccessLevel.NONE)
+    private final AbstractEntityPersister persister;
+    @Getter(AccessLevel.NONE)
+    private final Map<String, String> columns = new ConcurrentHashMap<>();
+
+    private JdbcEntityMetadata(SessionFactoryImplementor sessionFactory, Class<?> entity) {
+        this.entity = entity;
+        this.type = sessionFactory.getJpaMetamodel().entity(entity);
+        if (!(sessionFactory.getMappingMetamodel().getEntityDescriptor(entity) instanceof AbstractEntityPersister entityPersister)) {
+            throw new DynamicSpecificationException("Entity " + entity.getName() + " is not supported by the JDBC backend");
+        }
+        this.persister = entityPersister;
+        this.table = entityPersister.getTableName();
+        this.idColumn = single(entityPersister.getIdentifierColumnNames(), entityPersister.getIdentifierPropertyName());
+        this.attributes = type.getSingularAttributes().stream()
+                .filter(attribute -> attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC)
+                .map(Attribute::getName)
+                .toList();
+    }
+
+    static JdbcEntityMetadata of(SessionFactoryImplementor sessionFactory, Class<?> entity) {
+        return new JdbcEntityMetadata(sessionFactory, entity);
+    }
+
+    /**
+     * Column of a basic attribute or foreign key column of a to-one association
+     */
+    String column(String attribute) {
+        return columns.computeIfAbsent(attribute, name -> single(persister.getPropertyColumnNames(name), name));
+    }
+
+    /**
+     * Java type of an attribute
+     */
+    Class<?> javaType(String attribute) {
+        return type.getAttribute(attribute).getJavaType();
+    }
+
+    /**
+     * Target entity of a to-one association owning the foreign key
+     *
+     * @throws DynamicSpecificationException when the attribute is a collection or not an association
+     */
+    Class<?> association(String attribute) throws DynamicSpecificationException {
+        Attribute<?, ?> association = type.getAttribute(attribute);
+        if (association.isCollection() || !association.isAssociation() || !(association instanceof SingularAttribute<?, ?> singular)) {
+            throw new DynamicSpecificationException("Attribute '" + attribute + "' of " + entity.getName() +
+                    " is not a to-one association and is not supported by the JDBC backend");
+        }
+        return singular.getJavaType();
+    }
+
+    private String single(String[] names, String attribute) {
+        if (names == null || names.length != 1) {
+            throw new DynamicSpecificationException("Attribute '" + attribute + "' of " + entity.getName() +
+                    " must be mapped to a single column to be used by the JDBC backend");
+        }
+        return names[0];
+    }
+}
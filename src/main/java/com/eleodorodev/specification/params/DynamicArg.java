@@ -0,0 +1,255 @@
+package com.eleodorodev.specification.params;
+
+import com.eleodorodev.specification.enums.Conditional;
+import com.eleodorodev.specification.enums.Conjunction;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.Accessors;
+import org.springframework.data.util.Pair;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * DynamicArg
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ * @apiNote Immutable parsed form of a single {@link DynamicArgs} value. The key is interned, the operator suffix is
+ * decoded once when parsed and numbers are kept unboxed, long and double lists in primitive arrays.
+ * {@link #value()} and {@link #pairs(Map)} adapt it to the {@code Pair<Object, String>} form, the boxed view is
+ * created on the first read and shared by the requests reusing the parsed value
+ */
+@Getter
+@Accessors(fluent = true)
+public final class DynamicArg {
+
+    private static final Map<String, Enum<?>> OPERATORS = Stream.<Enum<?>>concat(Stream.of(Conjunction.values()), Stream.of(Conditional.values()))
+            .collect(Collectors.toUnmodifiableMap(Enum::name, operator -> operator));
+
+    private static final byte OBJECT = 0, LONG = 1, DOUBLE = 2, LONGS = 3, DOUBLES = 4;
+
+    private final String key;
+    /**
+     * Raw operator suffix Ex.("OR,LK,NOT")
+     */
+    private final String operators;
+    /**
+     * Conjunction informed in the suffix, null when absent
+     */
+    private final Conjunction conjunction;
+    /**
+     * Conditional informed in the suffix, null when absent
+     */
+    private final Conditional conditional;
+    private final boolean negate;
+    /**
+     * Whether the suffix has any valid operator
+     */
+    private final boolean overridden;
+
+    @Getter(AccessLevel.NONE)
+    private final byte kind;
+    @Getter(AccessLevel.NONE)
+    private final Object object;
+    @Getter(AccessLevel.NONE)
+    private final long longValue;
+    @Getter(AccessLevel.NONE)
+    private final double doubleValue;
+
+    /**
+     * Boxed views, created on the first read. Racing reads create equal immutable views
+     */
+    @Getter(AccessLevel.NONE)
+    private Object boxed;
+    @Getter(AccessLevel.NONE)
+    private List<?> list;
+    @Getter(AccessLevel.NONE)
+    private Pair<Object, String> pair;
+
+    private DynamicArg(String key, Object value, String operators) {
+        this.key = key.intern();
+        this.operators = operators.isEmpty() ? "" : operators.intern();
+
+        Conjunction decodedConjunction = null;
+        Conditional decodedConditional = null;
+        boolean decodedNegate = false;
+        boolean decoded = false;
+        if (!operators.isEmpty()) {
+            for (String token : operators.split(",")) {
+                Enum<?> operator = OPERATORS.get(token.trim().toUpperCase(Locale.ROOT));
+                if (operator == null) continue;
+                decoded = true;
+                if (operator == Conditional.NOT) decodedNegate = true;
+                else if (operator instanceof Conditional c) decodedConditional = c;
+                else if (operator instanceof Conjunction c) decodedConjunction = c;
+            }
+        }
+        this.conjunction = decodedConjunction;
+        this.conditional = decodedConditional;
+        this.negate = decodedNegate;
+        this.overridden = decoded;
+
+        if (value instanceof Long number) {
+            kind = LONG;
+            object = null;
+            longValue = number;
+            doubleValue = 0;
+        } else if (value instanceof Double number) {
+            kind = DOUBLE;
+            object = null;
+            longValue = 0;
+            doubleValue = number;
+        } else if (value instanceof List<?> list && !list.isEmpty() && list.stream().allMatch(Long.class::isInstance)) {
+            kind = LONGS;
+            object = list.stream().mapToLong(Long.class::cast).toArray();
+            longValue = 0;
+            doubleValue = 0;
+        } else if (value instanceof List<?> list && !list.isEmpty() && list.stream().allMatch(Double.class::isInstance)) {
+            kind = DOUBLES;
+            object = list.stream().mapToDouble(Double.class::cast).toArray();
+            longValue = 0;
+            doubleValue = 0;
+        } else {
+            kind = OBJECT;
+            object = value instanceof List<?> list ? List.copyOf(list) : value;
+            longValue = 0;
+            doubleValue = 0;
+        }
+    }
+
+    /**
+     * Parses a value and its operator suffix
+     *
+     * @param key       name of the parameter
+     * @param value     value as converted from the query string
+     * @param operators operator suffix, empty when absent
+     */
+    public static DynamicArg of(@NonNull String key, Object value, String operators) {
+        return new DynamicArg(key, value, operators == null ? "" : operators);
+    }
+
+    /**
+     * Value boxed as converted from the query string, lists are immutable
+     */
+    public Object value() {
+        if (kind == OBJECT) return object;
+        Object value = boxed;
+        if (value == null) {
+            value = switch (kind) {
+                case LONG -> longValue;
+                case DOUBLE -> doubleValue;
+                case LONGS -> Arrays.stream((long[]) object).boxed().toList();
+                default -> Arrays.stream((double[]) object).boxed().toList();
+            };
+            boxed = value;
+        }
+        return value;
+    }
+
+    /**
+     * Value as an immutable list, a single value becomes a list of one element
+     */
+    public List<?> asList() {
+        List<?> value = list;
+        if (value == null) {
+            value = value() instanceof List<?> values ? values : List.of(value());
+            list = value;
+        }
+        return value;
+    }
+
+    /**
+     * Whether the value is a list
+     */
+    public boolean isList() {
+        return kind == LONGS || kind == DOUBLES || object instanceof List<?>;
+    }
+
+    /**
+     * Values of a long list without boxing, null when it is not one
+     */
+    public long[] longs() {
+        return kind == LONGS ? ((long[]) object).clone() : null;
+    }
+
+    /**
+     * Values of a double list without boxing, null when it is not one
+     */
+    public double[] doubles() {
+        return kind == DOUBLES ? ((double[]) object).clone() : null;
+    }
+
+    public Pair<Object, String> toPair() {
+        Pair<Object, String> value = pair;
+        if (value == null) {
+            value = Pair.of(value(), operators);
+            pair = value;
+        }
+        return value;
+    }
+
+    /**
+     * Read-only {@code Pair<Object, String>} view of the parsed values
+     */
+    public static Map<String, Pair<Object, String>> pairs(Map<String, DynamicArg> args) {
+        return new AbstractMap<>() {
+            private Set<Entry<String, Pair<Object, String>>> entries;
+
+            @Override
+            public Pair<Object, String> get(Object key) {
+                DynamicArg arg = args.get(key);
+                return arg == null ? null : arg.toPair();
+            }
+
+            @Override
+            public boolean containsKey(Object key) {
+                return args.containsKey(key);
+            }
+
+            @Override
+            public int size() {
+                return args.size();
+            }
+
+            @Override
+            public Set<Entry<String, Pair<Object, String>>> entrySet() {
+                if (entries == null) {
+                    entries = args.values().stream()
+                            .map(arg -> Map.entry(arg.key(), arg.toPair()))
+                            .collect(Collectors.toUnmodifiableSet());
+                }
+                return entries;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DynamicArg arg)) return false;
+        return kind == arg.kind && key.equals(arg.key) && operators.equals(arg.operators) &&
+                longValue == arg.longValue && Double.compare(doubleValue, arg.doubleValue) == 0 &&
+                switch (kind) {
+                    case LONGS -> Arrays.equals((long[]) object, (long[]) arg.object);
+                    case DOUBLES -> Arrays.equals((double[]) object, (double[]) arg.object);
+                    default -> Objects.equals(object, arg.object);
+                };
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Objects.hash(key, operators, kind, longValue, doubleValue);
+        return 31 * hash + switch (kind) {
+            case LONGS -> Arrays.hashCode((long[]) object);
+            case DOUBLES -> Arrays.hashCode((double[]) object);
+            default -> Objects.hashCode(object);
+        };
+    }
+
+    @Override
+    public String toString() {
+        return key + "=" + value() + (operators.isEmpty() ? "" : ";" + operators);
+    }
+}
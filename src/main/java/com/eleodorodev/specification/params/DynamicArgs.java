@@ -1,7 +1,11 @@
 package com.eleodorodev.specification.params;
 
 
+import com.eleodorodev.specification.DynamicFacet;
+import com.eleodorodev.specification.contains.ContainsStrategies;
+import com.eleodorodev.specification.cost.DynamicCostModel;
 import com.eleodorodev.specification.enums.Conditional;
+import com.eleodorodev.specification.enums.CostPolicy;
 import com.eleodorodev.specification.exception.DynamicParamValidationException;
 import com.eleodorodev.specification.params.annotation.DynamicParam;
 import com.eleodorodev.specification.params.deserialize.ListDeserializer;
@@ -17,7 +21,9 @@ import java.util.stream.Collectors;
 
 /**
  * QueryString
- * @apiNote Object that must be received in the Controller Annotated as  {@link RequestParam @Request param} to receive querystring
+ * @apiNote Object that must be received in the Controller Annotated as  {@link RequestParam @Request param} to receive querystring.
+ * Instances created by the {@link DynamicArgsConverter} share the parsed values of the cache, {@link #value()} and
+ * {@code withParams} copy them on the first change
  */
 @Getter
 @Accessors(fluent = true)
@@ -25,6 +31,7 @@ import java.util.stream.Collectors;
 public class DynamicArgs {
 
     @NonNull
+    @Getter(AccessLevel.NONE)
     private Map<String, Pair<Object, String>> value;
     /**
      * Enables or disables permission to make complete queries via URL, for example allowing the user to accept parameters AND, OR, EQ, BT, etc.
@@ -35,8 +42,70 @@ public class DynamicArgs {
     @Setter
     private Class<?> type;
 
+    /**
+     * Grouped filter expression applied in search mode, see {@link com.eleodorodev.specification.expression.DynamicExpression}
+     */
+    @Setter
+    private String expression;
+
+    /**
+     * Maximum estimated query cost accepted when binding, zero disables the check
+     */
+    @Setter
+    private double budget;
+
+    /**
+     * Statement timeout in milliseconds of the queries, zero disables it
+     */
+    @Setter
+    private long timeout;
+
+    @Setter
+    private CostPolicy costPolicy = CostPolicy.REJECT;
+
+    @Setter
+    private DynamicCostModel costModel = DynamicCostModel.DEFAULT;
+
+    /**
+     * Selection of the strategies of the CT conditional
+     */
+    @Setter
+    private ContainsStrategies containsStrategies = ContainsStrategies.DEFAULT;
+
+    /**
+     * Associations fetched by the query built in the bind
+     */
+    @Setter
+    private Set<String> fetch = new LinkedHashSet<>();
+
+    /**
+     * Facets requested by the client, see {@link com.eleodorodev.specification.DynamicRepository#facets}
+     */
+    @Setter
+    private List<DynamicFacet> facets = new ArrayList<>();
+
+    /**
+     * Whether {@link #value} is shared with other instances and must be copied before changed
+     */
+    @Getter(AccessLevel.NONE)
+    private boolean shared;
+
+    /**
+     * Parsed values backing {@link #value} while it is not changed, see {@link DynamicArg}
+     */
+    @Getter(AccessLevel.NONE)
+    private Map<String, DynamicArg> args;
+
+    /**
+     * Values of the parameters, the map may be changed by the caller. While shared with other instances it is copied
+     * on the first call, as on the first {@code withParams}
+     */
+    public Map<String, Pair<Object, String>> value() {
+        return writableValue();
+    }
+
     public <T> T toObj(Class<T> type) {
-        Map<String, Object> map = this.value()
+        Map<String, Object> map = this.value
             .entrySet().stream()
             .map(e -> Map.entry(e.getKey(), e.getValue().getFirst()))
             .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
@@ -52,15 +121,57 @@ public class DynamicArgs {
     }
 
     public DynamicArgs withParams(String paramName, Object value, Conditional conditional) {
-        this.value.put(paramName, Pair.of(value, conditional.name()));
+        writableValue().put(paramName, Pair.of(value, conditional.name()));
         return this;
     }
 
     public DynamicArgs withParams(String paramName, Object value) {
-        this.value.put(paramName, Pair.of(value, ""));
+        writableValue().put(paramName, Pair.of(value, ""));
         return this;
     }
 
+    /**
+     * Parsed value of a parameter
+     *
+     * @param key name of the parameter
+     * @return the parsed value, null when not informed
+     */
+    public DynamicArg arg(String key) {
+        if (args != null) return args.get(key);
+        Pair<Object, String> pair = value.get(key);
+        return pair == null ? null : DynamicArg.of(key, pair.getFirst(), pair.getSecond());
+    }
+
+    /**
+     * Canonical form of the values, compared by equality. The parsed form of the values, so a copy made by
+     * {@link #value()} equals the shared values it was copied from
+     */
+    public Map<String, ?> canonical() {
+        if (args != null) return args;
+        Map<String, DynamicArg> canonical = new HashMap<>();
+        value.forEach((key, pair) -> canonical.put(key, DynamicArg.of(key, pair.getFirst(), pair.getSecond())));
+        return canonical;
+    }
+
+    /**
+     * View over immutable parsed values shared by other instances, copied on the first {@code withParams}
+     */
+    static DynamicArgs compact(Map<String, DynamicArg> args) {
+        DynamicArgs dynamicArgs = new DynamicArgs(DynamicArg.pairs(args));
+        dynamicArgs.args = args;
+        dynamicArgs.shared = true;
+        return dynamicArgs;
+    }
+
+    private Map<String, Pair<Object, String>> writableValue() {
+        if (shared) {
+            value = new HashMap<>(value);
+            args = null;
+            shared = false;
+        }
+        return value;
+    }
+
     public void validate(DynamicParam dynamicParam) throws DynamicParamValidationException {
         var error = Arrays.stream(dynamicParam.mandatory())
                 .filter(mandatory -> !this.value.containsKey(mandatory))
@@ -1,13 +1,12 @@
 package com.eleodorodev.specification.params;
 
+import com.eleodorodev.specification.DynamicFacet;
 import com.eleodorodev.specification.exception.DynamicParamArgumentException;
 import com.eleodorodev.specification.params.annotation.DynamicParam;
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.AccessLevel;
-import lombok.NoArgsConstructor;
 import org.springframework.data.util.Pair;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
-import org.springframework.stereotype.Component;
+import org.springframework.util.ConcurrentLruCache;
 
 import java.math.BigDecimal;
 import java.net.URLDecoder;
@@ -15,6 +14,7 @@ import java.nio.charset.StandardCharsets;
 import java.text.NumberFormat;
 import java.text.ParseException;
 import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -22,12 +22,33 @@ import java.util.stream.Stream;
  * Class QueryStringConverter
  *
  * @apiNote This class is responsible for converting HTTP request parameters into a map of key-value pairs.
+ * Instances memoize the parsed parameters in their own bounded LRU cache, the auto configuration registers one as a
+ * bean sized from {@code dynamic-specification.args-cache.size}. The static {@code converter} methods parse without cache.
  * @author Matheus Eleodoro
  * @see <a href="https://github.com/MatheusEleodoro">GitHub Profile</a>
  */
-@Component
-@NoArgsConstructor(access = AccessLevel.PRIVATE)
-public class DynamicArgsConverter {
+public final class DynamicArgsConverter {
+
+    /**
+     * Key used by the client to request fetches, see {@link DynamicParam#fetchable()}
+     */
+    public static final String FETCH_PARAM = "fetch";
+
+    /**
+     * Key used by the client to request facets, see {@link DynamicParam#facetable()}
+     */
+    public static final String FACETS_PARAM = "facets";
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final ConcurrentLruCache<CacheKey, Parsed> cache;
+
+    /**
+     * @param cacheSize The maximum number of parsed parameters kept, zero disables the cache.
+     */
+    public DynamicArgsConverter(int cacheSize) {
+        this.cache = cacheSize > 0 ? new ConcurrentLruCache<>(cacheSize, this::parseMiss) : null;
+    }
 
     /**
      * Parses a string into a number (Double, BigDecimal, or returns the original string if parsing fails).
@@ -52,7 +73,7 @@ public class DynamicArgsConverter {
     }
 
     /**
-     * Converts the parameters of an HTTP request into a map of key-value pairs.
+     * Converts the parameters of an HTTP request into a map of key-value pairs, without cache.
      *
      * @param request    The HTTP request containing the parameters.
      * @param annotation The annotation containing additional configuration.
@@ -60,24 +81,140 @@ public class DynamicArgsConverter {
      * @throws IllegalArgumentException If the URL parameter map is empty.
      */
     public static DynamicArgs converter(HttpServletRequest request, DynamicParam annotation) {
-        String paramName = annotation.name();
-        String query = request.getQueryString();
+        return converter(request.getQueryString(), annotation);
+    }
+
+    /**
+     * Converts the raw query string of a request into a map of key-value pairs, without cache.
+     *
+     * @param query      The raw query string, null when the request has none.
+     * @param annotation The annotation containing additional configuration.
+     * @return A map where the key is the parameter name and the value is a pair of the parameter value and its type.
+     * @throws DynamicParamArgumentException If the parameter is required and not found.
+     */
+    public static DynamicArgs converter(String query, DynamicParam annotation) {
+        String paramString = paramString(query, annotation);
+        return paramString == null ? DynamicArgs.instance() : toArgs(parse(paramString, annotation), annotation);
+    }
+
+    /**
+     * Converts the parameters of an HTTP request into a map of key-value pairs.
+     *
+     * <p>Parsed values are memoized in the cache of this converter keyed by the raw parameter and the annotation,
+     * each call receives its own copy-on-write {@link DynamicArgs} over the cached {@link DynamicArg} values.</p>
+     *
+     * @param request    The HTTP request containing the parameters.
+     * @param annotation The annotation containing additional configuration.
+     * @return A map where the key is the parameter name and the value is a pair of the parameter value and its type.
+     * @throws DynamicParamArgumentException If the parameter is required and not found.
+     */
+    public DynamicArgs convert(HttpServletRequest request, DynamicParam annotation) {
+        return convert(request.getQueryString(), annotation);
+    }
 
+    /**
+     * Converts the raw query string of a request into a map of key-value pairs.
+     *
+     * <p>Shared by the servlet and the reactive resolvers, the query string is expected still encoded.</p>
+     *
+     * @param query      The raw query string, null when the request has none.
+     * @param annotation The annotation containing additional configuration.
+     * @return A map where the key is the parameter name and the value is a pair of the parameter value and its type.
+     * @throws DynamicParamArgumentException If the parameter is required and not found.
+     */
+    public DynamicArgs convert(String query, DynamicParam annotation) {
+        String paramString = paramString(query, annotation);
+        if (paramString == null) return DynamicArgs.instance();
+        if (cache == null) return toArgs(parse(paramString, annotation), annotation);
+        requests.increment();
+        return toArgs(cache.get(new CacheKey(paramString, annotation)), annotation);
+    }
+
+    /**
+     * Statistics of the cache of parsed parameters.
+     *
+     * @return The hits, misses and size of the cache.
+     */
+    public CacheStats cacheStats() {
+        long miss = misses.sum();
+        return new CacheStats(requests.sum() - miss, miss, cache == null ? 0 : cache.size(), cache == null ? 0 : cache.capacity());
+    }
+
+    /**
+     * Raw value of the parameter of the annotation, null when absent and not required.
+     */
+    private static String paramString(String query, DynamicParam annotation) {
+        String paramName = annotation.name();
         if (query == null || !query.contains(paramName + "=")) {
-            if (!annotation.required()) return DynamicArgs.instance();
+            if (!annotation.required()) return null;
             throw new DynamicParamArgumentException("Expected QueryArg parameter '" + paramName + "' not found.");
         }
-
         int index = query.indexOf(paramName + "=");
-        String paramString = query.substring(index + paramName.length() + 1);
+        return query.substring(index + paramName.length() + 1);
+    }
+
+    private static DynamicArgs toArgs(Parsed parsed, DynamicParam annotation) {
+        return DynamicArgs.compact(parsed.args())
+                .fetch(new LinkedHashSet<>(parsed.fetch()))
+                .facets(new ArrayList<>(parsed.facets()))
+                .expression(parsed.expression())
+                .search(annotation.search())
+                .type(annotation.type())
+                .budget(annotation.budget())
+                .costPolicy(annotation.costPolicy())
+                .timeout(annotation.timeout());
+    }
+
+    /**
+     * Statistics of the cache of parsed parameters.
+     *
+     * @param hits     Requests answered by the cache.
+     * @param misses   Requests that parsed the parameter.
+     * @param size     Entries currently cached.
+     * @param capacity Maximum number of entries.
+     */
+    public record CacheStats(long hits, long misses, int size, int capacity) {
+        public double hitRate() {
+            return hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+        }
+    }
 
+    private record CacheKey(String paramString, DynamicParam annotation) {
+    }
+
+    /**
+     * Immutable result of the parsing, shared by the cached requests.
+     */
+    private record Parsed(Map<String, DynamicArg> args, Set<String> fetch, List<DynamicFacet> facets, String expression) {
+    }
+
+    private Parsed parseMiss(CacheKey key) {
+        misses.increment();
+        return parse(key.paramString(), key.annotation());
+    }
+
+    /**
+     * Decodes and splits the raw parameter.
+     */
+    private static Parsed parse(String paramString, DynamicParam annotation) {
         try {
             paramString = URLDecoder.decode(paramString, StandardCharsets.UTF_8);
         } catch (Exception e) {
             throw new IllegalArgumentException("Failed to decode query string.", e);
         }
 
-        Map<String, Pair<Object, String>> params = Arrays.stream(paramString.split("&"))
+        String expressionKey = annotation.search() ? annotation.expression() + "=" : null;
+        String expression = null;
+        List<String> pairs = new ArrayList<>();
+        for (String pair : paramString.split("&")) {
+            if (expressionKey != null && pair.startsWith(expressionKey)) {
+                expression = pair.substring(expressionKey.length()).isBlank() ? null : pair.substring(expressionKey.length());
+            } else {
+                pairs.add(pair);
+            }
+        }
+
+        Map<String, Pair<Object, String>> params = pairs.stream()
                 .filter(pair -> !pair.isBlank())
                 .map(pair -> pair.split("=", 2))
                 .filter(kv -> kv.length > 1 && !kv[1].isBlank())
@@ -92,9 +229,72 @@ public class DynamicArgsConverter {
             PublicResolverNames.paramsNames().forEach(params::remove);
         }
 
-        return new DynamicArgs(params)
-                .search(annotation.search())
-                .type(annotation.type());
+        Set<String> fetch = new LinkedHashSet<>(Arrays.asList(annotation.fetch()));
+        if (annotation.fetchable().length > 0 && params.containsKey(FETCH_PARAM)) {
+            fetch.addAll(getFetch(params.remove(FETCH_PARAM), annotation));
+        }
+
+        List<DynamicFacet> facets = new ArrayList<>();
+        if (annotation.facetable().length > 0 && params.containsKey(FACETS_PARAM)) {
+            facets.addAll(getFacets(params.remove(FACETS_PARAM), annotation));
+        }
+
+        Map<String, DynamicArg> args = params.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey,
+                        entry -> DynamicArg.of(entry.getKey(), entry.getValue().getFirst(), entry.getValue().getSecond())));
+
+        return new Parsed(args, Collections.unmodifiableSet(fetch), Collections.unmodifiableList(facets), expression);
+    }
+
+    /**
+     * Reads the associations requested through the {@code fetch=} key, only whitelisted ones are accepted.
+     *
+     * @param param      The value of the fetch key.
+     * @param annotation The annotation containing the whitelist.
+     * @return The requested associations.
+     * @throws DynamicParamArgumentException If an association is not whitelisted.
+     */
+    private static List<String> getFetch(Pair<Object, String> param, DynamicParam annotation) {
+        List<String> requested = param.getFirst() instanceof List<?> list
+                ? list.stream().map(String::valueOf).toList()
+                : List.of(String.valueOf(param.getFirst()));
+        List<String> fetchable = Arrays.asList(annotation.fetchable());
+
+        var error = requested.stream()
+                .filter(path -> !fetchable.contains(path))
+                .map(path -> "Fetch of '" + path + "' is not allowed. ")
+                .collect(Collectors.joining());
+        if (!error.isEmpty()) {
+            throw new DynamicParamArgumentException(error);
+        }
+        return requested;
+    }
+
+    /**
+     * Reads the facets requested through the {@code facets=} key, only whitelisted attributes are accepted.
+     *
+     * @param param      The value of the facets key.
+     * @param annotation The annotation containing the whitelist.
+     * @return The requested facets.
+     * @throws DynamicParamArgumentException If a facet uses an attribute that is not whitelisted.
+     */
+    private static List<DynamicFacet> getFacets(Pair<Object, String> param, DynamicParam annotation) {
+        List<DynamicFacet> requested = (param.getFirst() instanceof List<?> list ? list.stream() : Stream.of(param.getFirst()))
+                .map(Object::toString)
+                .map(DynamicFacet::parse)
+                .toList();
+        List<String> facetable = Arrays.asList(annotation.facetable());
+
+        var error = requested.stream()
+                .flatMap(facet -> Stream.of(facet.attribute(), facet.measure()))
+                .filter(attribute -> attribute != null && !facetable.contains(attribute))
+                .map(attribute -> "Facet of '" + attribute + "' is not allowed. ")
+                .distinct()
+                .collect(Collectors.joining());
+        if (!error.isEmpty()) {
+            throw new DynamicParamArgumentException(error);
+        }
+        return requested;
     }
 
     /**
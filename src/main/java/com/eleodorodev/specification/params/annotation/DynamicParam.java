@@ -1,5 +1,7 @@
 package com.eleodorodev.specification.params.annotation;
 
+import com.eleodorodev.specification.enums.CostPolicy;
+
 import java.lang.annotation.*;
 
 @Target(ElementType.PARAMETER)
@@ -17,4 +19,41 @@ public @interface DynamicParam {
     String[] mandatory() default {};
 
     Class<?> type() default Void.class;
+
+    /**
+     * Key carrying a grouped filter expression in search mode, see {@link com.eleodorodev.specification.expression.DynamicExpression}
+     */
+    String expression() default "filter";
+
+    /**
+     * Maximum estimated query cost accepted by the endpoint, zero disables the check
+     */
+    double budget() default 0;
+
+    /**
+     * What to do when the filter exceeds the {@link #budget()}
+     */
+    CostPolicy costPolicy() default CostPolicy.REJECT;
+
+    /**
+     * Statement timeout in milliseconds of the queries of the request, rounded up to whole seconds as JDBC applies
+     * it, zero disables it.
+     * See {@link com.eleodorodev.specification.query.DynamicQueryContext}
+     */
+    long timeout() default 0;
+
+    /**
+     * Associations always fetched by the query, nested ones separated by dot Ex.("city.state")
+     */
+    String[] fetch() default {};
+
+    /**
+     * Associations the client may request through the {@code fetch=} key, the key is only read when not empty
+     */
+    String[] fetchable() default {};
+
+    /**
+     * Attributes the client may request as facets through the {@code facets=} key, the key is only read when not empty
+     */
+    String[] facetable() default {};
 }
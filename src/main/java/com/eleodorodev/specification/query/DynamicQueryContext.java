@@ -0,0 +1,206 @@
+package com.eleodorodev.specification.query;
+
+import jakarta.persistence.Query;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.HibernateException;
+import org.hibernate.Session;
+import org.hibernate.SessionEventListener;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * DynamicQueryContext
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ * @apiNote Statement timeout and cancellation of the queries run by the {@link com.eleodorodev.specification.DynamicRepository}.
+ * The context is bound to the current thread by {@link #run(Supplier)} or to the current request by the
+ * {@link com.eleodorodev.specification.params.annotation.DynamicParam#timeout()}. Cancelling it cancels the
+ * statements being executed by its sessions
+ */
+@Slf4j
+public final class DynamicQueryContext {
+
+    /**
+     * Request attribute holding the context of the request
+     */
+    public static final String ATTRIBUTE = DynamicQueryContext.class.getName();
+
+    /**
+     * Query hint of the statement timeout, in milliseconds
+     */
+    public static final String TIMEOUT_HINT = "jakarta.persistence.query.timeout";
+
+    private static final boolean SERVLET_REQUESTS = ClassUtils.isPresent(
+            "org.springframework.web.context.request.RequestContextHolder", DynamicQueryContext.class.getClassLoader());
+    private static final ThreadLocal<DynamicQueryContext> CURRENT = new ThreadLocal<>();
+    private static final LongAdder timedOut = new LongAdder();
+    private static final LongAdder cancelled = new LongAdder();
+
+    private final Duration timeout;
+    private final Set<Session> sessions = ConcurrentHashMap.newKeySet();
+    private volatile boolean cancel;
+
+    /**
+     * Stops the statements of the sessions from being executed once cancelled, while this context is current
+     */
+    private final SessionEventListener guard = new SessionEventListener() {
+        @Override
+        public void jdbcExecuteStatementStart() {
+            if (cancel && current() == DynamicQueryContext.this) throw new CancellationException("Dynamic query cancelled");
+        }
+    };
+
+    /**
+     * @param timeout statement timeout of each query, null or zero disables it
+     */
+    public DynamicQueryContext(Duration timeout) {
+        this.timeout = timeout == null || timeout.isZero() || timeout.isNegative() ? null : timeout;
+    }
+
+    /**
+     * Context of the current thread or, when there is none, of the current request. The request is only read
+     * when spring-web is on the classpath
+     */
+    public static DynamicQueryContext current() {
+        DynamicQueryContext context = CURRENT.get();
+        if (context != null || !SERVLET_REQUESTS) return context;
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes == null ? null : (DynamicQueryContext) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    /**
+     * Runs the queries of the supplier with the timeout
+     */
+    public static <R> R withTimeout(Duration timeout, Supplier<R> queries) {
+        return new DynamicQueryContext(timeout).run(queries);
+    }
+
+    /**
+     * Runs the queries of the supplier in this context
+     */
+    public <R> R run(Supplier<R> queries) {
+        DynamicQueryContext previous = bind(this);
+        try {
+            return queries.get();
+        } catch (RuntimeException e) {
+            completed(e);
+            throw e;
+        } finally {
+            bind(previous);
+        }
+    }
+
+    /**
+     * Runs the queries asynchronously in this context, cancelling the future cancels the statement being executed
+     */
+    public <R> CompletableFuture<R> supplyAsync(Supplier<R> queries, Executor executor) {
+        CompletableFuture<R> future = CompletableFuture.supplyAsync(() -> run(queries), executor);
+        future.whenComplete((result, error) -> {
+            if (error instanceof CancellationException) cancel();
+        });
+        return future;
+    }
+
+    /**
+     * Binds the context to the current thread
+     *
+     * @return the context previously bound, to be restored
+     */
+    public static DynamicQueryContext bind(DynamicQueryContext context) {
+        DynamicQueryContext previous = CURRENT.get();
+        if (context == null) CURRENT.remove();
+        else CURRENT.set(context);
+        return previous;
+    }
+
+    /**
+     * Applies the timeout to the query and registers the session running it, to be cancelled. A cancel arriving
+     * before the statement is executed, when there is no statement to cancel yet, stops it from being executed
+     *
+     * @throws CancellationException when the context was already cancelled
+     */
+    public void apply(Query query, Session session) throws CancellationException {
+        if (cancel) throw new CancellationException("Dynamic query cancelled");
+        if (timeout != null) query.setHint(TIMEOUT_HINT, hint(timeout));
+        if (session != null && sessions.add(session)) session.addEventListeners(guard);
+    }
+
+    /**
+     * Value of the {@link #TIMEOUT_HINT}. JDBC timeouts are whole seconds and Hibernate rounds the hint to the nearest
+     * one, so it is rounded up here: a timeout below half a second would otherwise disable the timeout
+     */
+    static int hint(Duration timeout) {
+        return (int) Math.min(Integer.MAX_VALUE, (timeout.toMillis() + 999) / 1000 * 1000);
+    }
+
+    /**
+     * Cancels the statements being executed and the following queries of the context
+     */
+    public void cancel() {
+        if (cancel) return;
+        cancel = true;
+        cancelled.increment();
+        for (Session session : sessions) {
+            try {
+                if (session.isOpen()) session.cancelQuery();
+            } catch (HibernateException e) {
+                log.debug("Failed to cancel dynamic query", e);
+            }
+        }
+        sessions.clear();
+    }
+
+    public boolean isCancelled() {
+        return cancel;
+    }
+
+    public Duration timeout() {
+        return timeout;
+    }
+
+    /**
+     * Records the error ending the queries of the context, counting the timeouts
+     */
+    public void completed(Throwable error) {
+        sessions.clear();
+        if (!cancel && isTimeout(error)) timedOut.increment();
+    }
+
+    /**
+     * Statistics of the timed-out and cancelled contexts.
+     */
+    public static Stats stats() {
+        return new Stats(timedOut.sum(), cancelled.sum());
+    }
+
+    /**
+     * @param timedOut  contexts ended by a statement timeout
+     * @param cancelled contexts cancelled
+     */
+    public record Stats(long timedOut, long cancelled) {
+    }
+
+    private static boolean isTimeout(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof jakarta.persistence.QueryTimeoutException ||
+                    cause instanceof org.springframework.dao.QueryTimeoutException ||
+                    cause instanceof SQLTimeoutException) {
+                return true;
+            }
+            if (cause.getCause() == cause) break;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,180 @@
+package com.eleodorodev.specification.query;
+
+import com.eleodorodev.specification.cost.DynamicCostModel;
+import com.eleodorodev.specification.enums.CostPolicy;
+import com.eleodorodev.specification.params.DynamicArgs;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * DynamicSingleFlight
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ * @apiNote Coalesces identical concurrent queries: callers with the same entity, canonical {@link DynamicArgs} and page
+ * arriving while a query is in flight wait for it and receive its result instead of running their own. Nothing is
+ * kept after the query ends. The shared result must be treated as read-only. When the in-flight map is full the
+ * queries run without coalescing. When the query in flight is cancelled by its caller, the waiting callers run it
+ * again instead of failing with the cancellation. The waiting callers give up after the timeout of their own
+ * {@link DynamicQueryContext}, or of the {@link DynamicArgs#timeout()} when no context is bound, failing with a
+ * {@link QueryTimeoutException} as their own query would
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DynamicSingleFlight {
+
+    private static final Map<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private static final LongAdder executions = new LongAdder();
+    private static final LongAdder coalesced = new LongAdder();
+    private static final LongAdder bypassed = new LongAdder();
+    private static volatile int maxInFlight = 1024;
+
+    /**
+     * Fingerprint of a query
+     */
+    private record Key(Class<?> entity, Class<?> clazz, Map<String, ?> value, boolean search, String expression,
+                       Set<String> fetch, Class<?> type, double budget, CostPolicy costPolicy,
+                       DynamicCostModel costModel, long timeout, Object page) {
+    }
+
+    /**
+     * Configures the maximum number of distinct queries in flight, zero disables the coalescing.
+     *
+     * @param max The maximum number of distinct queries in flight.
+     */
+    public static void configure(int max) {
+        maxInFlight = Math.max(0, max);
+    }
+
+    /**
+     * Runs the query, or waits for the identical one in flight
+     *
+     * @param entity entity queried
+     * @param clazz  class with the {@link com.eleodorodev.specification.annotation.DynamicSpecAttr} attributes bound
+     * @param args   arguments of the filter
+     * @param page   page or sort of the query, compared by equality
+     * @param query  query to be run
+     * @return result of the query, shared with the coalesced callers
+     */
+    @SuppressWarnings("unchecked")
+    public static <R> R execute(Class<?> entity, Class<?> clazz, DynamicArgs args, Object page, Supplier<R> query) {
+        if (maxInFlight == 0 || args == null) {
+            executions.increment();
+            return query.get();
+        }
+
+        Key key = new Key(entity, clazz, args.canonical(), args.search(), args.expression(), Set.copyOf(args.fetch()),
+                args.type(), args.budget(), args.costPolicy(), args.costModel(), args.timeout(), page);
+        Long deadline = deadline(args);
+
+        while (true) {
+            CompletableFuture<Object> existing = inFlight.get(key);
+            if (existing == null) {
+                if (inFlight.size() >= maxInFlight) {
+                    bypassed.increment();
+                    executions.increment();
+                    return query.get();
+                }
+                CompletableFuture<Object> leader = new CompletableFuture<>();
+                existing = inFlight.putIfAbsent(key, leader);
+                if (existing == null) {
+                    return (R) lead(key, leader, query);
+                }
+            }
+
+            coalesced.increment();
+            try {
+                return (R) await(existing, deadline);
+            } catch (CancellationException e) {
+                if (!existing.isCancelled()) throw e;
+                // the caller running the query was cancelled, not this one
+                coalesced.decrement();
+            } catch (QueryTimeoutException e) {
+                coalesced.decrement();
+                throw e;
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+    }
+
+    /**
+     * Instant in nanos the caller stops waiting, null when it has no timeout
+     */
+    private static Long deadline(DynamicArgs args) {
+        DynamicQueryContext context = DynamicQueryContext.current();
+        Duration timeout = context != null && context.timeout() != null ? context.timeout()
+                : args.timeout() > 0 ? Duration.ofMillis(args.timeout()) : null;
+        return timeout == null ? null : System.nanoTime() + timeout.toNanos();
+    }
+
+    /**
+     * Waits for the query in flight until the deadline
+     *
+     * @throws QueryTimeoutException when the deadline passes before the query ends
+     * @throws CancellationException when the waiting thread is interrupted or the query in flight is cancelled
+     */
+    private static Object await(CompletableFuture<Object> existing, Long deadline) {
+        if (deadline == null) return existing.join();
+        try {
+            return existing.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new QueryTimeoutException("Timed out waiting for the coalesced dynamic query", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted waiting for the coalesced dynamic query");
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+    private static Object lead(Key key, CompletableFuture<Object> leader, Supplier<?> query) {
+        executions.increment();
+        DynamicQueryContext context = DynamicQueryContext.current();
+        try {
+            Object result = query.get();
+            leader.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            if (e instanceof CancellationException || context != null && context.isCancelled()) {
+                leader.cancel(false);
+            } else {
+                leader.completeExceptionally(e);
+            }
+            throw e;
+        } finally {
+            inFlight.remove(key, leader);
+        }
+    }
+
+    /**
+     * Statistics of the coalescing.
+     */
+    public static Stats stats() {
+        return new Stats(executions.sum(), coalesced.sum(), bypassed.sum(), inFlight.size());
+    }
+
+    /**
+     * @param executions queries run
+     * @param coalesced  callers that received the result of a query in flight
+     * @param bypassed   queries run without coalescing because the in-flight map was full
+     * @param inFlight   distinct queries currently in flight
+     */
+    public record Stats(long executions, long coalesced, long bypassed, int inFlight) {
+        public double coalescedRate() {
+            return executions + coalesced == 0 ? 0 : (double) coalesced / (executions + coalesced);
+        }
+    }
+}
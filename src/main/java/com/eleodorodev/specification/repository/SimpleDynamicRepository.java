@@ -0,0 +1,365 @@
+package com.eleodorodev.specification.repository;
+
+import com.eleodorodev.specification.DynamicFacet;
+import com.eleodorodev.specification.DynamicFilter;
+import com.eleodorodev.specification.DynamicRepository;
+import com.eleodorodev.specification.DynamicSpecification;
+import com.eleodorodev.specification.exception.DynamicSpecificationException;
+import com.eleodorodev.specification.params.DynamicArgs;
+import com.eleodorodev.specification.query.DynamicQueryContext;
+import com.eleodorodev.specification.query.DynamicSingleFlight;
+import com.eleodorodev.specification.routing.DynamicReadOnly;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import lombok.NonNull;
+import org.hibernate.Session;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.spi.QueryImplementor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * SimpleDynamicRepository
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ * @apiNote Base class of the {@link DynamicRepository} interfaces, installed by the auto configuration
+ * @see com.eleodorodev.specification.config.DynamicRepositoryPostProcessor
+ */
+public class SimpleDynamicRepository<T, ID extends Serializable> extends SimpleJpaRepository<T, ID> implements DynamicRepository<T, ID> {
+
+    /**
+     * Ids deleted or updated by each statement where the subquery on the same table is rejected
+     */
+    private static final int CHUNK_SIZE = 1000;
+
+    private final JpaEntityInformation<T, ?> entityInformation;
+    private final EntityManager entityManager;
+    private Boolean selfSubquery;
+
+    public SimpleDynamicRepository(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+        super(entityInformation, entityManager);
+        this.entityInformation = entityInformation;
+        this.entityManager = entityManager;
+    }
+
+    @NonNull
+    @Override
+    protected <S extends T> TypedQuery<S> getQuery(Specification<S> spec, @NonNull Class<S> domainClass, @NonNull Sort sort) {
+        return withContext(super.getQuery(spec, domainClass, sort));
+    }
+
+    @NonNull
+    @Override
+    protected <S extends T> TypedQuery<Long> getCountQuery(Specification<S> spec, @NonNull Class<S> domainClass) {
+        return withContext(super.getCountQuery(spec, domainClass));
+    }
+
+    @Override
+    public Page<T> findAllByIdsFirst(Specification<T> spec, @NonNull Pageable pageable, String... fetch) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        String idAttribute = idAttribute();
+
+        CriteriaQuery<Object> idQuery = builder.createQuery(Object.class);
+        Root<T> idRoot = idQuery.from(getDomainClass());
+        Predicate predicate = spec == null ? null : spec.toPredicate(idRoot, idQuery, builder);
+        if (predicate != null) idQuery.where(predicate);
+
+        // grouped by id, so joins of the filter or of the sort to collections never repeat an entity before the limit
+        Path<Object> id = idRoot.get(idAttribute);
+        Sort sort = pageable.getSort();
+        List<Order> orders = new ArrayList<>();
+        for (Order order : QueryUtils.toOrders(sort, idRoot, builder)) {
+            orders.add(aggregate(builder, order));
+        }
+        // the id breaks ties so the pages are stable
+        if (sort.getOrderFor(idAttribute) == null) orders.add(builder.asc(id));
+        idQuery.select(id).distinct(false).groupBy(id).orderBy(orders);
+
+        TypedQuery<Object> ids = withContext(entityManager.createQuery(idQuery));
+        if (pageable.isPaged()) {
+            ids.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+        }
+        List<Object> page = ids.getResultList();
+        if (page.isEmpty()) {
+            return PageableExecutionUtils.getPage(List.of(), pageable, () -> count(spec));
+        }
+
+        CriteriaQuery<T> query = builder.createQuery(getDomainClass());
+        Root<T> root = query.from(getDomainClass());
+        Predicate fetched = DynamicFilter.<T>toFetch(fetch).toPredicate(root, query, builder);
+        Predicate inPage = root.get(idAttribute).in(page);
+        query.select(root).distinct(true).where(fetched == null ? inPage : builder.and(fetched, inPage));
+
+        // restores the order of the page, lost by the IN
+        Map<Object, T> entities = new HashMap<>();
+        for (T entity : withContext(entityManager.createQuery(query)).getResultList()) {
+            entities.put(entityInformation.getId(entity), entity);
+        }
+        List<T> content = page.stream().map(entities::get).filter(Objects::nonNull).toList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    /**
+     * Order by the smallest value of the sort key of each entity when ascending, by the largest when descending
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Order aggregate(CriteriaBuilder builder, Order order) {
+        Expression key = order.getExpression();
+        return order.isAscending() ? builder.asc(builder.least(key)) : builder.desc(builder.greatest(key));
+    }
+
+    /**
+     * The entities are always detached from the persistence context before being shared, so the callers on other
+     * threads never touch the session of the caller that ran the query
+     */
+    @Override
+    public Page<T> findAllCoalesced(Class<?> clazz, DynamicArgs args, @NonNull Pageable pageable) {
+        return DynamicSingleFlight.execute(getDomainClass(), clazz, args, pageable, () -> {
+            Page<T> page = findAll(DynamicSpecification.bind(clazz, args), pageable);
+            page.forEach(entity -> {
+                if (entityManager.contains(entity)) entityManager.detach(entity);
+            });
+            return page;
+        });
+    }
+
+    /**
+     * Selects a constant with a single row limit, applying the {@link DynamicQueryContext}
+     */
+    @Override
+    public boolean exists(Specification<T> spec) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Integer> query = builder.createQuery(Integer.class);
+        Root<T> root = query.from(getDomainClass());
+
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, builder);
+        query.select(builder.literal(1)).distinct(false);
+        if (predicate != null) query.where(predicate);
+        return !withContext(entityManager.createQuery(query)).setMaxResults(1).getResultList().isEmpty();
+    }
+
+    /**
+     * Selects a constant per row, so the database stops reading at the cap. Only when the filter joins a
+     * collection, repeating the entity once per element, the distinct ids are selected instead, or the entities
+     * when the id is composite
+     */
+    @Override
+    public long countUpTo(Specification<T> spec, long cap) {
+        if (cap <= 0) return 0;
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object> query = builder.createQuery(Object.class);
+        Root<T> root = query.from(getDomainClass());
+
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, builder);
+        if (joinsCollection(root)) {
+            boolean singleId = !entityInformation.hasCompositeId() && entityInformation.getIdAttribute() != null;
+            query.select(singleId ? root.get(idAttribute()) : root).distinct(true);
+        } else {
+            query.select(builder.literal(1)).distinct(false);
+        }
+        if (predicate != null) query.where(predicate);
+        return withContext(entityManager.createQuery(query))
+                .setMaxResults((int) Math.min(cap, Integer.MAX_VALUE))
+                .getResultList()
+                .size();
+    }
+
+    /**
+     * Whether the joins of the path reach a collection, the filters of {@link DynamicFilter#toExists} use
+     * subqueries instead
+     */
+    private static boolean joinsCollection(From<?, ?> from) {
+        for (Join<?, ?> join : from.getJoins()) {
+            if (join.getAttribute().isCollection() || joinsCollection(join)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * On MySQL and MariaDB, which reject a subquery on the table being deleted, the ids are deleted in chunks
+     */
+    @Override
+    @Transactional
+    public long deleteAll(Specification<T> spec) {
+        if (spec != null && !supportsSelfSubquery()) return deleteAll(spec, CHUNK_SIZE);
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaDelete<T> delete = builder.createCriteriaDelete(getDomainClass());
+        Root<T> root = delete.from(getDomainClass());
+        if (spec != null) delete.where(root.get(idAttribute()).in(idSubquery(delete, spec)));
+        return withContext(entityManager.createQuery(delete)).executeUpdate();
+    }
+
+    /**
+     * On MySQL and MariaDB, which reject a subquery on the table being updated, the ids are updated in chunks
+     */
+    @Override
+    @Transactional
+    public long updateAll(Specification<T> spec, @NonNull Map<String, Object> assignments) {
+        if (spec != null && !supportsSelfSubquery()) return updateAll(spec, assignments, CHUNK_SIZE);
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<T> update = builder.createCriteriaUpdate(getDomainClass());
+        Root<T> root = update.from(getDomainClass());
+        assign(update, root, assignments);
+        if (spec != null) update.where(root.get(idAttribute()).in(idSubquery(update, spec)));
+        return withContext(entityManager.createQuery(update)).executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public long deleteInBatchById(@NonNull Collection<ID> ids) {
+        if (ids.isEmpty()) return 0;
+        CriteriaDelete<T> delete = entityManager.getCriteriaBuilder().createCriteriaDelete(getDomainClass());
+        Root<T> root = delete.from(getDomainClass());
+        delete.where(root.get(idAttribute()).in(ids));
+        return withContext(entityManager.createQuery(delete)).executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public long updateAllById(@NonNull Collection<ID> ids, @NonNull Map<String, Object> assignments) {
+        if (ids.isEmpty()) return 0;
+        CriteriaUpdate<T> update = entityManager.getCriteriaBuilder().createCriteriaUpdate(getDomainClass());
+        Root<T> root = update.from(getDomainClass());
+        assign(update, root, assignments);
+        update.where(root.get(idAttribute()).in(ids));
+        return withContext(entityManager.createQuery(update)).executeUpdate();
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<ID> findIds(Specification<T> spec, ID after, int limit) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object> query = builder.createQuery(Object.class);
+        Root<T> root = query.from(getDomainClass());
+        Path<Comparable> id = root.get(idAttribute());
+
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, builder);
+        if (predicate != null) predicates.add(predicate);
+        if (after != null) predicates.add(builder.greaterThan(id, (Comparable) after));
+
+        query.select(id).distinct(true).where(predicates.toArray(Predicate[]::new)).orderBy(builder.asc(id));
+        return (List<ID>) (List<?>) withContext(entityManager.createQuery(query).setMaxResults(limit)).getResultList();
+    }
+
+    /**
+     * Subquery selecting the ids matching the specification, where the joins of the filter are allowed
+     */
+    @SuppressWarnings("unchecked")
+    private Subquery<Object> idSubquery(CommonAbstractCriteria statement, Specification<T> spec) {
+        // typed with the id, an Object subquery is not comparable with the id in the IN
+        Subquery<Object> subquery = (Subquery<Object>) statement.subquery(entityInformation.getIdType());
+        Root<T> root = subquery.from(getDomainClass());
+        subquery.select(root.get(idAttribute()));
+        Predicate predicate = spec.toPredicate(root, null, entityManager.getCriteriaBuilder());
+        if (predicate != null) subquery.where(predicate);
+        return subquery;
+    }
+
+    /**
+     * Sets the assignments of the update, only attributes of the entity are accepted
+     */
+    private void assign(CriteriaUpdate<T> update, Root<T> root, Map<String, Object> assignments) {
+        if (assignments.isEmpty()) {
+            throw new DynamicSpecificationException("No assignments informed to update " + getDomainClass().getName());
+        }
+        assignments.forEach((attribute, value) -> {
+            if (attribute.contains(".")) {
+                throw new DynamicSpecificationException("Only attributes of " + getDomainClass().getName() +
+                        " can be updated, '" + attribute + "' is nested");
+            }
+            update.set(root.<Object>get(attribute), value);
+        });
+    }
+
+    /**
+     * Whether the database accepts a subquery on the table of the DELETE or UPDATE, MySQL and MariaDB reject it
+     */
+    private boolean supportsSelfSubquery() {
+        if (selfSubquery == null) {
+            Dialect dialect = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices().getDialect();
+            selfSubquery = !(dialect instanceof MySQLDialect);
+        }
+        return selfSubquery;
+    }
+
+    private String idAttribute() {
+        if (entityInformation.hasCompositeId() || entityInformation.getIdAttribute() == null) {
+            throw new DynamicSpecificationException("Bulk statements require a single id attribute on " + getDomainClass().getName());
+        }
+        return entityInformation.getIdAttribute().getName();
+    }
+
+    @Override
+    @DynamicReadOnly
+    public Map<String, Map<Object, Number>> facets(Specification<T> spec, @NonNull Collection<DynamicFacet> facets) {
+        Map<String, Map<Object, Number>> result = new LinkedHashMap<>();
+        for (DynamicFacet facet : facets) {
+            Map<Object, Number> values = new LinkedHashMap<>();
+            for (Object[] row : facetQuery(spec, facet)) {
+                values.put(row[0], (Number) row[1]);
+            }
+            result.put(facet.name(), values);
+        }
+        return result;
+    }
+
+    /**
+     * Runs the GROUP BY query of a single facet, ordered by the aggregate
+     */
+    private List<Object[]> facetQuery(Specification<T> spec, DynamicFacet facet) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = builder.createQuery(Object[].class);
+        Root<T> root = query.from(getDomainClass());
+
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, builder);
+        Path<Object> group = path(root, facet.attribute());
+        Expression<? extends Number> aggregate = switch (facet.aggregate()) {
+            case COUNT -> builder.count(root);
+            case SUM -> builder.sum(path(root, facet.measure()));
+            case AVG -> builder.avg(path(root, facet.measure()));
+            case MIN -> builder.min(path(root, facet.measure()));
+            case MAX -> builder.max(path(root, facet.measure()));
+        };
+
+        query.multiselect(group, aggregate).groupBy(group).orderBy(builder.desc(aggregate));
+        if (predicate != null) query.where(predicate);
+        return withContext(entityManager.createQuery(query)).getResultList();
+    }
+
+    /**
+     * Applies the timeout of the current {@link DynamicQueryContext}, registering the session to be cancelled. The
+     * session is taken from the query: outside a transaction the shared entity manager opens a new one per call
+     */
+    protected <Q extends Query> Q withContext(Q query) {
+        DynamicQueryContext context = DynamicQueryContext.current();
+        if (context != null) {
+            context.apply(query, query.unwrap(QueryImplementor.class).getSession() instanceof Session session ? session : null);
+        }
+        return query;
+    }
+
+    /**
+     * Path of an attribute, nested ones separated by dot, reusing the joins of the filter
+     */
+    protected static <T, Y> Path<Y> path(Root<T> root, String attribute) {
+        String[] parts = attribute.split("\\.");
+        Path<T> parent = parts.length == 1 ? root : DynamicFilter.getPathRoot(root, Arrays.copyOf(parts, parts.length - 1));
+        return parent.get(parts[parts.length - 1]);
+    }
+}
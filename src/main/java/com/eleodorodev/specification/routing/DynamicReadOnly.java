@@ -0,0 +1,35 @@
+package com.eleodorodev.specification.routing;
+
+import org.springframework.core.annotation.AliasFor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.annotation.*;
+
+/**
+ * DynamicReadOnly
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ * @apiNote Marks a method or class whose queries may be served by the replica configured under
+ * {@code dynamic-specification.replica}. It is a read-only {@link Transactional}, so the connection of the whole
+ * transaction is taken from the replica. The find and count methods of the {@link com.eleodorodev.specification.DynamicRepository}
+ * are already read-only and routed when called outside a read-write transaction
+ * @see DynamicReplicaDataSource
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Transactional(readOnly = true)
+public @interface DynamicReadOnly {
+
+    /**
+     * Transaction manager, see {@link Transactional#transactionManager()}
+     */
+    @AliasFor(annotation = Transactional.class, attribute = "transactionManager")
+    String transactionManager() default "";
+
+    /**
+     * Timeout of the transaction in seconds, see {@link Transactional#timeout()}
+     */
+    @AliasFor(annotation = Transactional.class, attribute = "timeout")
+    int timeout() default -1;
+}
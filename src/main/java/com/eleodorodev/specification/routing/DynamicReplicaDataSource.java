@@ -0,0 +1,152 @@
+package com.eleodorodev.specification.routing;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * DynamicReplicaDataSource
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ * @apiNote Routes the connections of read-only transactions to a replica, the others keep using the primary.
+ * Connections are only fetched on the first statement, after the transaction has marked them read-only, so the
+ * routing works with the JPA transaction manager. When the replica fails or its lag exceeds the limit, the reads go
+ * to the primary until the replica is checked again
+ * <pre>
+ * dynamic-specification.replica.enabled=true
+ * dynamic-specification.replica.url=jdbc:h2:mem:replica
+ * dynamic-specification.replica.max-lag=5s
+ * dynamic-specification.replica.lag-query=SELECT EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())
+ * </pre>
+ * @see DynamicReadOnly
+ */
+@Slf4j
+public final class DynamicReplicaDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final Duration maxLag;
+    private final String lagQuery;
+    private final Duration lagCheckInterval;
+    private final Duration retryAfter;
+
+    private volatile long unavailableUntil;
+    private volatile long lagCheckedAt;
+    private volatile boolean lagging;
+
+    /**
+     * @param primary          data source of the writes and of the fallback reads
+     * @param replica          data source of the read-only transactions
+     * @param maxLag           maximum replication lag accepted, null disables the check
+     * @param lagQuery         query returning the lag of the replica in seconds, null disables the check
+     * @param lagCheckInterval interval between the checks of the lag
+     * @param retryAfter       time the replica is skipped after failing to give a connection
+     */
+    public DynamicReplicaDataSource(DataSource primary, DataSource replica, Duration maxLag, String lagQuery,
+                                    Duration lagCheckInterval, Duration retryAfter) {
+        super(primary);
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+        this.lagCheckInterval = lagCheckInterval;
+        this.retryAfter = retryAfter;
+        setReadOnlyDataSource(new Fallback());
+    }
+
+    /**
+     * Whether the read-only transactions are currently served by the replica
+     */
+    public boolean isReplicaAvailable() {
+        return System.currentTimeMillis() >= unavailableUntil && !isLagging();
+    }
+
+    private boolean isLagging() {
+        if (maxLag == null || lagQuery == null || lagQuery.isBlank()) return false;
+
+        long now = System.currentTimeMillis();
+        if (now - lagCheckedAt < lagCheckInterval.toMillis()) return lagging;
+        lagCheckedAt = now;
+
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            double seconds = resultSet.next() ? resultSet.getDouble(1) : 0;
+            boolean exceeded = seconds * 1000 > maxLag.toMillis();
+            if (exceeded != lagging) {
+                log.warn("Dynamic replica lag of {}s {} the limit of {}", seconds, exceeded ? "exceeds" : "is back within", maxLag);
+            }
+            lagging = exceeded;
+        } catch (SQLException e) {
+            unavailable(e);
+        }
+        return lagging;
+    }
+
+    private void unavailable(SQLException e) {
+        unavailableUntil = System.currentTimeMillis() + retryAfter.toMillis();
+        log.warn("Dynamic replica unavailable, reading from the primary for {}: {}", retryAfter, e.getMessage());
+    }
+
+    /**
+     * Closes the replica and the primary, a failure closing one of them is logged and does not stop the other
+     */
+    @Override
+    public void close() {
+        for (DataSource dataSource : new DataSource[]{replica, primary}) {
+            if (!(dataSource instanceof AutoCloseable closeable)) continue;
+            try {
+                closeable.close();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Dynamic replica interrupted while closing {}", dataSource);
+            } catch (Exception e) {
+                log.warn("Dynamic replica failed to close {}: {}", dataSource, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Replica falling back to the primary
+     */
+    private class Fallback extends DelegatingDataSource {
+
+        Fallback() {
+            super(replica);
+        }
+
+        @Override
+        @NonNull
+        public Connection getConnection() throws SQLException {
+            if (isReplicaAvailable()) {
+                try {
+                    return replica.getConnection();
+                } catch (SQLException e) {
+                    unavailable(e);
+                }
+            }
+            return primary.getConnection();
+        }
+
+        @Override
+        @NonNull
+        public Connection getConnection(@NonNull String username, @NonNull String password) throws SQLException {
+            if (isReplicaAvailable()) {
+                try {
+                    return replica.getConnection(username, password);
+                } catch (SQLException e) {
+                    unavailable(e);
+                }
+            }
+            return primary.getConnection(username, password);
+        }
+    }
+}
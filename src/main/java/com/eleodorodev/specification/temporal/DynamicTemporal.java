@@ -0,0 +1,142 @@
+package com.eleodorodev.specification.temporal;
+
+import com.eleodorodev.specification.enums.Conditional;
+import com.eleodorodev.specification.exception.DynamicParamArgumentException;
+import com.eleodorodev.specification.exception.DynamicSpecificationException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.time.*;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * DynamicTemporal
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ * @apiNote Converts the values of the temporal conditionals into half-open {@code [start, end)} bounds, compared with
+ * the raw column so the predicate can use an index range scan. The days and months are evaluated in the zone of the
+ * column and the bounds are converted to its java type
+ * <ul>
+ *     <li>ON - a day {@code 2024-05-01}</li>
+ *     <li>IM - a month {@code 2024-05}</li>
+ *     <li>LD - the last N days, today included {@code 7}</li>
+ *     <li>RG - a range of dates or date-times, either bound may be omitted {@code 2024-05-01,2024-05-15T12:00Z}</li>
+ * </ul>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DynamicTemporal {
+
+    private static volatile Clock clock = Clock.systemUTC();
+
+    /**
+     * Bounds of a temporal conditional, null when open
+     *
+     * @param start inclusive start
+     * @param end   exclusive end
+     */
+    public record Range(ZonedDateTime start, ZonedDateTime end) {
+    }
+
+    /**
+     * Clock of the LD conditional
+     */
+    public static void clock(Clock value) {
+        clock = value;
+    }
+
+    /**
+     * Zone of a {@link com.eleodorodev.specification.annotation.DynamicSpecAttr#zone()}, the system default when empty
+     */
+    public static ZoneId zone(String zone) {
+        return zone == null || zone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(zone);
+    }
+
+    /**
+     * Bounds of the value of the conditional
+     *
+     * @throws DynamicParamArgumentException when the value can not be parsed
+     */
+    public static Range range(Conditional conditional, Object value, ZoneId zone) throws DynamicParamArgumentException {
+        try {
+            return switch (conditional) {
+                case ON -> {
+                    ZonedDateTime start = LocalDate.parse(value.toString().trim()).atStartOfDay(zone);
+                    yield new Range(start, start.plusDays(1));
+                }
+                case IM -> {
+                    ZonedDateTime start = YearMonth.parse(value.toString().trim()).atDay(1).atStartOfDay(zone);
+                    yield new Range(start, start.plusMonths(1));
+                }
+                case LD -> {
+                    long days = Long.parseLong(value.toString().trim());
+                    if (days < 1) throw new DynamicParamArgumentException("Last days must be positive, received " + value);
+                    ZonedDateTime tomorrow = LocalDate.now(clock.withZone(zone)).plusDays(1).atStartOfDay(zone);
+                    yield new Range(tomorrow.minusDays(days), tomorrow);
+                }
+                case RG -> {
+                    List<?> bounds = value instanceof List<?> list ? list : Arrays.asList(value.toString().split(",", -1));
+                    ZonedDateTime start = bounds.isEmpty() ? null : parse(bounds.getFirst(), zone);
+                    ZonedDateTime end = bounds.size() < 2 ? null : parse(bounds.get(1), zone);
+                    yield new Range(start, end);
+                }
+                default -> throw new DynamicSpecificationException("Conditional " + conditional + " is not temporal");
+            };
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new DynamicParamArgumentException("Invalid value '" + value + "' for the temporal conditional " + conditional);
+        }
+    }
+
+    /**
+     * Parses a date, local date-time or date-time with offset, the local ones in the zone
+     */
+    private static ZonedDateTime parse(Object value, ZoneId zone) {
+        String text = value == null ? "" : value.toString().trim();
+        if (text.isEmpty()) return null;
+        if (!text.contains("T")) return LocalDate.parse(text).atStartOfDay(zone);
+        try {
+            return OffsetDateTime.parse(text).atZoneSameInstant(zone);
+        } catch (DateTimeParseException e) {
+            return LocalDateTime.parse(text).atZone(zone);
+        }
+    }
+
+    /**
+     * Converts a bound to the java type of the column
+     *
+     * @param bound bound in the zone of the column
+     * @param type  java type of the column
+     * @param end   whether it is the exclusive end, rounded up when the column only keeps the date
+     * @throws DynamicSpecificationException when the type is not temporal
+     */
+    public static Comparable<?> convert(ZonedDateTime bound, Class<?> type, boolean end) throws DynamicSpecificationException {
+        Comparable<?> converted;
+        if (type == LocalDate.class) {
+            LocalDate date = bound.toLocalDate();
+            converted = end && !bound.equals(bound.truncatedTo(ChronoUnit.DAYS)) ? date.plusDays(1) : date;
+        } else if (type == LocalDateTime.class) {
+            converted = bound.toLocalDateTime();
+        } else if (type == Instant.class) {
+            converted = bound.toInstant();
+        } else if (type == OffsetDateTime.class) {
+            converted = bound.toOffsetDateTime();
+        } else if (type == ZonedDateTime.class) {
+            converted = bound;
+        } else if (type == java.sql.Date.class) {
+            LocalDate date = bound.toLocalDate();
+            converted = java.sql.Date.valueOf(end && !bound.equals(bound.truncatedTo(ChronoUnit.DAYS)) ? date.plusDays(1) : date);
+        } else if (type == java.sql.Timestamp.class) {
+            converted = java.sql.Timestamp.from(bound.toInstant());
+        } else if (Date.class.isAssignableFrom(type)) {
+            converted = Date.from(bound.toInstant());
+        } else if (type == Long.class || type == long.class) {
+            converted = bound.toInstant().toEpochMilli();
+        } else {
+            throw new DynamicSpecificationException("Type " + type.getName() + " is not supported by the temporal conditionals");
+        }
+        return converted;
+    }
+}
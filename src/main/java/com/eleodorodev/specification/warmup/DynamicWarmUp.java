@@ -0,0 +1,203 @@
+package com.eleodorodev.specification.warmup;
+
+import com.eleodorodev.specification.DynamicSpecification;
+import com.eleodorodev.specification.annotation.DynamicSpecAttr;
+import com.eleodorodev.specification.enums.Conditional;
+import com.eleodorodev.specification.params.DynamicArgs;
+import com.eleodorodev.specification.params.DynamicArgsConverter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.QueryTimeoutException;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.PluralAttribute;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.time.temporal.Temporal;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * DynamicWarmUp
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ * @apiNote Runs the common filter shapes of the configured filters when the application is ready, before the readiness
+ * state changes. Each shape is one annotated property with one conditional, whose select runs with a single row
+ * limit: Hibernate renders its SQL, the database prepares it and the classes and filter lambdas on the path are
+ * loaded. Hibernate does not keep the SQL of criteria queries unless {@code hibernate.criteria.plan_cache_enabled} is
+ * set, so what stays warm is the code and the statement cache of the database. The count is never run. When
+ * {@code execute} is disabled the criteria queries are only built, and the SQL is rendered on their first execution
+ */
+@Slf4j
+public class DynamicWarmUp implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final String TIMEOUT_HINT = "jakarta.persistence.query.timeout";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final Collection<Target> targets;
+    private final Set<Conditional> conditionals;
+    private final boolean execute;
+    private final Duration timeout;
+
+    @Getter
+    private volatile Report report;
+
+    /**
+     * @param entityManagerFactory factory of the entity managers used by the warm-up
+     * @param targets              filters warmed up, each one with its entity
+     * @param conditionals         conditionals of each property, the declared one when empty
+     * @param execute              whether to run the select with a single row limit or only build the queries
+     * @param timeout              statement timeout of each select, none when null
+     */
+    public DynamicWarmUp(EntityManagerFactory entityManagerFactory, Collection<Target> targets,
+                         Set<Conditional> conditionals, boolean execute, Duration timeout) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.targets = targets;
+        this.conditionals = conditionals;
+        this.execute = execute;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Filter warmed up
+     *
+     * @param entity    entity queried
+     * @param annotated class with the {@link DynamicSpecAttr} attributes, the entity itself or a DTO
+     */
+    public record Target(Class<?> entity, Class<?> annotated) {
+
+        /**
+         * Filter declared in the entity itself
+         */
+        public static Target of(Class<?> entity) {
+            return new Target(entity, entity);
+        }
+    }
+
+    /**
+     * Result of the warm-up
+     *
+     * @param shapes  shapes run, or built when not executed
+     * @param skipped shapes not supported by the attribute type
+     * @param millis  time spent
+     */
+    public record Report(int shapes, int skipped, long millis) {
+    }
+
+    @Override
+    public void onApplicationEvent(@NonNull ApplicationReadyEvent event) {
+        long start = System.nanoTime();
+        int shapes = 0;
+        int skipped = 0;
+
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            for (Target target : targets) {
+                for (Field field : target.annotated().getDeclaredFields()) {
+                    for (DynamicSpecAttr specAttr : AnnotatedElementUtils.findAllMergedAnnotations(field, DynamicSpecAttr.class)) {
+                        Class<?> type = attributeType(target.entity(), specAttr, field.getType());
+                        for (Conditional conditional : conditionals.isEmpty() ? Set.of(specAttr.conditional()) : conditionals) {
+                            Object value = sample(type, conditional);
+                            if (value == null) {
+                                skipped++;
+                                continue;
+                            }
+                            try {
+                                DynamicArgs args = DynamicArgs.instance().withParams(specAttr.property(), value, conditional).search(true);
+                                warmUp(entityManager, target.entity(), DynamicSpecification.bind(target.annotated(), args));
+                                shapes++;
+                            } catch (RuntimeException e) {
+                                log.warn("Dynamic specification warm-up skipped {}.{} {}: {}", target.annotated().getSimpleName(), specAttr.property(), conditional, e.getMessage());
+                                skipped++;
+                            }
+                        }
+                    }
+                }
+            }
+        } finally {
+            entityManager.close();
+        }
+
+        report = new Report(shapes, skipped, (System.nanoTime() - start) / 1_000_000);
+        log.info("Dynamic specification warm-up finished: {} shapes in {} ms, {} skipped", report.shapes(), report.millis(), report.skipped());
+    }
+
+    private <T> void warmUp(EntityManager entityManager, Class<T> entity, Specification<T> spec) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = builder.createQuery(entity);
+        Root<T> root = query.from(entity);
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, builder);
+        if (predicate != null) query.where(predicate);
+
+        TypedQuery<T> select = entityManager.createQuery(query).setMaxResults(1);
+        if (!execute) return;
+        // JDBC timeouts are whole seconds, rounded up so a timeout below half a second is not dropped by Hibernate
+        if (timeout != null) select.setHint(TIMEOUT_HINT, (int) Math.min(Integer.MAX_VALUE, (timeout.toMillis() + 999) / 1000 * 1000));
+        try {
+            select.getResultList();
+        } catch (QueryTimeoutException e) {
+            // the statement was rendered and prepared, only the scan did not finish
+            log.debug("Dynamic specification warm-up of {} timed out", entity.getSimpleName());
+        } finally {
+            entityManager.clear();
+        }
+    }
+
+    /**
+     * Type of the attribute in the entity, the field of a DTO usually receives it as a string. The type of the field
+     * when the path is not found in the metamodel
+     */
+    private Class<?> attributeType(Class<?> entity, DynamicSpecAttr specAttr, Class<?> fieldType) {
+        try {
+            Metamodel metamodel = entityManagerFactory.getMetamodel();
+            ManagedType<?> type = metamodel.managedType(entity);
+            for (String parent : specAttr.parents()) {
+                Attribute<?, ?> attribute = type.getAttribute(parent);
+                Class<?> target = attribute instanceof PluralAttribute<?, ?, ?> plural
+                        ? plural.getElementType().getJavaType() : attribute.getJavaType();
+                type = metamodel.managedType(target);
+            }
+            return type.getAttribute(specAttr.property()).getJavaType();
+        } catch (IllegalArgumentException e) {
+            return fieldType;
+        }
+    }
+
+    /**
+     * Sample value accepted by the conditional for the attribute type, null when not supported
+     */
+    private static Object sample(Class<?> type, Conditional conditional) {
+        Class<?> wrapper = ClassUtils.resolvePrimitiveIfNecessary(type);
+        boolean number = Number.class.isAssignableFrom(wrapper);
+        boolean text = String.class.equals(wrapper);
+        boolean temporal = Temporal.class.isAssignableFrom(wrapper) || Date.class.isAssignableFrom(wrapper);
+        return switch (conditional) {
+            case LK -> text ? "warmup" : null;
+            case CT, BW -> number ? List.of(DynamicArgsConverter.parseNumber("1"), DynamicArgsConverter.parseNumber("2"))
+                    : text && conditional == Conditional.CT ? List.of("warmup", "warm") : null;
+            case GT, GTE, LT, LTE -> number ? DynamicArgsConverter.parseNumber("1") : null;
+            case ON -> temporal ? "2000-01-01" : null;
+            case IM -> temporal ? "2000-01" : null;
+            case LD -> temporal ? "1" : null;
+            case RG -> temporal ? List.of("2000-01-01", "2000-01-02") : null;
+            default -> number ? DynamicArgsConverter.parseNumber("1") : text ? "warmup" : null;
+        };
+    }
+}
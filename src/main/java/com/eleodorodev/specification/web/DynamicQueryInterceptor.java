@@ -0,0 +1,80 @@
+package com.eleodorodev.specification.web;
+
+import com.eleodorodev.specification.query.DynamicQueryContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.DeferredResultProcessingInterceptor;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.Callable;
+
+/**
+ * DynamicQueryInterceptor
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ * @apiNote Ends the {@link DynamicQueryContext} of the request. The context is bound to the thread running the
+ * {@link Callable} of an async request, and cancelled when the async request times out or fails, as when the client
+ * disconnects. Synchronous requests are only protected by the statement timeout
+ */
+public class DynamicQueryInterceptor implements HandlerInterceptor, CallableProcessingInterceptor, DeferredResultProcessingInterceptor {
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, Exception ex) {
+        if (request.getAttribute(DynamicQueryContext.ATTRIBUTE) instanceof DynamicQueryContext context) {
+            context.completed(ex != null ? ex : (Throwable) request.getAttribute(DispatcherServlet.EXCEPTION_ATTRIBUTE));
+        }
+    }
+
+    @Override
+    public <T> void preProcess(@NonNull NativeWebRequest request, @NonNull Callable<T> task) {
+        DynamicQueryContext context = context(request);
+        if (context != null) DynamicQueryContext.bind(context);
+    }
+
+    @Override
+    public <T> void postProcess(@NonNull NativeWebRequest request, @NonNull Callable<T> task, Object concurrentResult) {
+        if (context(request) != null) DynamicQueryContext.bind(null);
+    }
+
+    @NonNull
+    @Override
+    public <T> Object handleTimeout(@NonNull NativeWebRequest request, @NonNull Callable<T> task) {
+        cancel(request);
+        return RESULT_NONE;
+    }
+
+    @NonNull
+    @Override
+    public <T> Object handleError(@NonNull NativeWebRequest request, @NonNull Callable<T> task, @NonNull Throwable t) {
+        cancel(request);
+        return RESULT_NONE;
+    }
+
+    @Override
+    public <T> boolean handleTimeout(@NonNull NativeWebRequest request, @NonNull DeferredResult<T> deferredResult) {
+        cancel(request);
+        return true;
+    }
+
+    @Override
+    public <T> boolean handleError(@NonNull NativeWebRequest request, @NonNull DeferredResult<T> deferredResult, @NonNull Throwable t) {
+        cancel(request);
+        return true;
+    }
+
+    private static void cancel(NativeWebRequest request) {
+        DynamicQueryContext context = context(request);
+        if (context != null) context.cancel();
+    }
+
+    private static DynamicQueryContext context(NativeWebRequest request) {
+        return (DynamicQueryContext) request.getAttribute(DynamicQueryContext.ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+}
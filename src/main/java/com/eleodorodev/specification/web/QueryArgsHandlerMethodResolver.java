@@ -1,20 +1,51 @@
 package com.eleodorodev.specification.web;
 
+import com.eleodorodev.specification.contains.ContainsStrategies;
+import com.eleodorodev.specification.cost.DynamicCostModel;
 import com.eleodorodev.specification.params.DynamicArgs;
 import com.eleodorodev.specification.params.DynamicArgsConverter;
 import com.eleodorodev.specification.params.annotation.DynamicParam;
+import com.eleodorodev.specification.query.DynamicQueryContext;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.NonNull;
 import org.springframework.core.MethodParameter;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
+import java.time.Duration;
+
 @Component
 public class QueryArgsHandlerMethodResolver implements HandlerMethodArgumentResolver {
 
+    private final DynamicCostModel costModel;
+    private final ContainsStrategies containsStrategies;
+    private final DynamicArgsConverter converter;
+
+    public QueryArgsHandlerMethodResolver() {
+        this(DynamicCostModel.DEFAULT);
+    }
+
+    public QueryArgsHandlerMethodResolver(DynamicCostModel costModel) {
+        this(costModel, ContainsStrategies.DEFAULT);
+    }
+
+    public QueryArgsHandlerMethodResolver(DynamicCostModel costModel, ContainsStrategies containsStrategies) {
+        this(costModel, containsStrategies, new DynamicArgsConverter(0));
+    }
+
+    /**
+     * @param converter converter of the query strings, whose cache is kept by this resolver
+     */
+    public QueryArgsHandlerMethodResolver(DynamicCostModel costModel, ContainsStrategies containsStrategies, DynamicArgsConverter converter) {
+        this.costModel = costModel;
+        this.containsStrategies = containsStrategies;
+        this.converter = converter;
+    }
+
     @Override
     public boolean supportsParameter(@NonNull MethodParameter parameter) {
         return parameter.hasParameterAnnotation(DynamicParam.class) &&
@@ -31,8 +62,13 @@ public class QueryArgsHandlerMethodResolver implements HandlerMethodArgumentReso
         var annotation = parameter.getParameterAnnotation(DynamicParam.class);
         HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
 
-        var args = DynamicArgsConverter.converter(request, annotation);
+        var args = converter.convert(request, annotation).costModel(costModel).containsStrategies(containsStrategies);
         args.validate(annotation);
+
+        if (args.timeout() > 0) {
+            webRequest.setAttribute(DynamicQueryContext.ATTRIBUTE, new DynamicQueryContext(Duration.ofMillis(args.timeout())),
+                    RequestAttributes.SCOPE_REQUEST);
+        }
         return args;
     }
 }
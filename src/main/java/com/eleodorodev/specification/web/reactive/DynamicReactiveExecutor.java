@@ -0,0 +1,134 @@
+package com.eleodorodev.specification.web.reactive;
+
+import com.eleodorodev.specification.DynamicRepository;
+import com.eleodorodev.specification.DynamicSpecification;
+import com.eleodorodev.specification.params.DynamicArgs;
+import com.eleodorodev.specification.query.DynamicQueryContext;
+import lombok.NonNull;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * DynamicReactiveExecutor
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ * @apiNote Runs the blocking queries of the {@link DynamicRepository} on a {@link Scheduler} and emits the results as a
+ * {@link Flux} of pages. Each page is only queried when the subscriber requests it, so a slow subscriber holds no
+ * connection between the pages. Cancelling the subscription cancels the statement being executed
+ * <pre>
+ * return executor.stream(repository, Person.class, args, PageRequest.of(0, 500));
+ * </pre>
+ */
+public class DynamicReactiveExecutor implements AutoCloseable {
+
+    private final Scheduler scheduler;
+    private final boolean owned;
+
+    /**
+     * Executor running the queries on the bounded elastic scheduler
+     */
+    public DynamicReactiveExecutor() {
+        this(Schedulers.boundedElastic());
+    }
+
+    /**
+     * @param scheduler scheduler of the blocking queries, disposed by its owner
+     */
+    public DynamicReactiveExecutor(@NonNull Scheduler scheduler) {
+        this(scheduler, false);
+    }
+
+    private DynamicReactiveExecutor(Scheduler scheduler, boolean owned) {
+        this.scheduler = scheduler;
+        this.owned = owned;
+    }
+
+    /**
+     * Executor running each query on a new virtual thread, its scheduler is disposed by {@link #close()}
+     */
+    public static DynamicReactiveExecutor virtual() {
+        return new DynamicReactiveExecutor(Schedulers.fromExecutorService(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("dynamic-query-", 0).factory()), "dynamic-query"), true);
+    }
+
+    /**
+     * Disposes the scheduler created by {@link #virtual()}, schedulers received by the constructor are kept
+     */
+    @Override
+    public void close() {
+        if (owned) scheduler.dispose();
+    }
+
+    /**
+     * Pages of the entities matching the arguments, from the pageable until the last one
+     *
+     * @param repository repository of the entity
+     * @param clazz      class with the {@link com.eleodorodev.specification.annotation.DynamicSpecAttr} attributes
+     * @param args       arguments of the filter, its fetches are loaded by ids first and its timeout applies to each page
+     * @param pageable   first page
+     */
+    public <T> Flux<Page<T>> pages(DynamicRepository<T, ?> repository, Class<?> clazz, DynamicArgs args, Pageable pageable) {
+        String[] fetch = args.fetch().toArray(String[]::new);
+        Duration timeout = args.timeout() > 0 ? Duration.ofMillis(args.timeout()) : null;
+        return Flux.defer(() -> {
+            Specification<T> spec = DynamicSpecification.bind(clazz, args);
+            return paged(page -> fetch.length == 0
+                    ? repository.findAll(spec, page)
+                    : repository.findAllByIdsFirst(spec, page, fetch), pageable, timeout);
+        });
+    }
+
+    /**
+     * Pages of the entities matching the specification, from the pageable until the last one
+     *
+     * @param repository repository of the entity
+     * @param spec       specification of the filter
+     * @param pageable   first page
+     */
+    public <T> Flux<Page<T>> pages(DynamicRepository<T, ?> repository, Specification<T> spec, Pageable pageable) {
+        return paged(page -> repository.findAll(spec, page), pageable, null);
+    }
+
+    /**
+     * Entities matching the arguments, queried page by page
+     *
+     * @see #pages(DynamicRepository, Class, DynamicArgs, Pageable)
+     */
+    public <T> Flux<T> stream(DynamicRepository<T, ?> repository, Class<?> clazz, DynamicArgs args, Pageable pageable) {
+        return pages(repository, clazz, args, pageable).concatMapIterable(Page::getContent, 1);
+    }
+
+    /**
+     * Entities matching the specification, queried page by page
+     *
+     * @see #pages(DynamicRepository, Specification, Pageable)
+     */
+    public <T> Flux<T> stream(DynamicRepository<T, ?> repository, Specification<T> spec, Pageable pageable) {
+        return pages(repository, spec, pageable).concatMapIterable(Page::getContent, 1);
+    }
+
+    /**
+     * Pages generated one per request on the scheduler, so the next page is never prefetched
+     */
+    private <T> Flux<Page<T>> paged(Function<Pageable, Page<T>> query, Pageable pageable, Duration timeout) {
+        return Flux.defer(() -> {
+            DynamicQueryContext context = new DynamicQueryContext(timeout);
+            return Flux.<Page<T>, Pageable>generate(() -> pageable, (next, sink) -> {
+                        Page<T> page = context.run(() -> query.apply(next));
+                        sink.next(page);
+                        if (!page.hasNext()) sink.complete();
+                        return page.hasNext() ? page.nextPageable() : next;
+                    })
+                    .subscribeOn(scheduler)
+                    .doOnCancel(context::cancel);
+        });
+    }
+}
@@ -0,0 +1,70 @@
+package com.eleodorodev.specification.web.reactive;
+
+import com.eleodorodev.specification.contains.ContainsStrategies;
+import com.eleodorodev.specification.cost.DynamicCostModel;
+import com.eleodorodev.specification.params.DynamicArgs;
+import com.eleodorodev.specification.params.DynamicArgsConverter;
+import com.eleodorodev.specification.params.annotation.DynamicParam;
+import lombok.NonNull;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.reactive.BindingContext;
+import org.springframework.web.reactive.result.method.HandlerMethodArgumentResolver;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * ReactiveQueryArgsHandlerMethodResolver
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ * @apiNote WebFlux counterpart of the {@link com.eleodorodev.specification.web.QueryArgsHandlerMethodResolver},
+ * builds the {@link DynamicArgs} from the raw query string of the {@link ServerWebExchange}. The parsing never blocks,
+ * the queries are run by the {@link DynamicReactiveExecutor}, which applies the
+ * {@link DynamicParam#timeout()} of the arguments
+ */
+public class ReactiveQueryArgsHandlerMethodResolver implements HandlerMethodArgumentResolver {
+
+    private final DynamicCostModel costModel;
+    private final ContainsStrategies containsStrategies;
+    private final DynamicArgsConverter converter;
+
+    public ReactiveQueryArgsHandlerMethodResolver() {
+        this(DynamicCostModel.DEFAULT);
+    }
+
+    public ReactiveQueryArgsHandlerMethodResolver(DynamicCostModel costModel) {
+        this(costModel, ContainsStrategies.DEFAULT);
+    }
+
+    public ReactiveQueryArgsHandlerMethodResolver(DynamicCostModel costModel, ContainsStrategies containsStrategies) {
+        this(costModel, containsStrategies, new DynamicArgsConverter(0));
+    }
+
+    /**
+     * @param converter converter of the query strings, whose cache is kept by this resolver
+     */
+    public ReactiveQueryArgsHandlerMethodResolver(DynamicCostModel costModel, ContainsStrategies containsStrategies, DynamicArgsConverter converter) {
+        this.costModel = costModel;
+        this.containsStrategies = containsStrategies;
+        this.converter = converter;
+    }
+
+    @Override
+    public boolean supportsParameter(@NonNull MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(DynamicParam.class) &&
+                parameter.getParameterType().equals(DynamicArgs.class);
+    }
+
+    @NonNull
+    @Override
+    public Mono<Object> resolveArgument(@NonNull MethodParameter parameter,
+                                        @NonNull BindingContext bindingContext,
+                                        @NonNull ServerWebExchange exchange) {
+        return Mono.fromSupplier(() -> {
+            var annotation = parameter.getParameterAnnotation(DynamicParam.class);
+            var args = converter.convert(exchange.getRequest().getURI().getRawQuery(), annotation)
+                    .costModel(costModel).containsStrategies(containsStrategies);
+            args.validate(annotation);
+            return args;
+        });
+    }
+}
@@ -0,0 +1,80 @@
+package com.eleodorodev.specification;
+
+import com.eleodorodev.specification.annotation.DynamicSpecAttr;
+import com.eleodorodev.specification.enums.JoinMode;
+import com.eleodorodev.specification.fixture.FixtureTest;
+import com.eleodorodev.specification.fixture.Person;
+import com.eleodorodev.specification.fixture.PersonRepository;
+import com.eleodorodev.specification.fixture.SqlCapture;
+import com.eleodorodev.specification.params.DynamicArgs;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Filters on collection paths as correlated EXISTS subqueries
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ */
+@FixtureTest
+class DynamicFilterExistsTest {
+
+    static class PhoneFilter {
+        @DynamicSpecAttr(property = "kind", parents = "phones")
+        private String kind;
+
+        @DynamicSpecAttr(property = "number", parents = "phones")
+        private String number;
+    }
+
+    static class StateFilter {
+        @DynamicSpecAttr(property = "state", parents = "city", join = JoinMode.EXISTS)
+        private String state;
+    }
+
+    @Autowired
+    private PersonRepository repository;
+
+    @BeforeEach
+    void clear() {
+        SqlCapture.clear();
+    }
+
+    @Test
+    void keepsTheCardinalityOfTheRootWithoutDistinct() {
+        Page<Person> page = repository.findAll(DynamicSpecification.<Person, PhoneFilter>bind(PhoneFilter.class,
+                DynamicArgs.instance().withParams("kind", "MOBILE")), PageRequest.of(0, 10, Sort.by("id")));
+
+        assertThat(page.getTotalElements()).isEqualTo(60);
+        assertThat(page.getContent()).extracting(Person::getId).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        assertThat(SqlCapture.statements()).hasSize(2)
+                .allMatch(sql -> sql.contains("exists") && !sql.contains("distinct") && !sql.contains("join phone"));
+    }
+
+    @Test
+    void groupsThePredicatesOfTheSameCollectionInOneSubquery() {
+        // person 1 has the HOME phone 555-61 and the MOBILE phone 555-1
+        long sameElement = repository.count(DynamicSpecification.<Person, PhoneFilter>bind(PhoneFilter.class,
+                DynamicArgs.instance().withParams("kind", "HOME").withParams("number", "555-61")));
+        long otherElement = repository.count(DynamicSpecification.<Person, PhoneFilter>bind(PhoneFilter.class,
+                DynamicArgs.instance().withParams("kind", "HOME").withParams("number", "555-1")));
+
+        assertThat(sameElement).isEqualTo(1);
+        assertThat(otherElement).isZero();
+        assertThat(SqlCapture.statements()).allMatch(sql -> sql.split("exists", -1).length == 2);
+    }
+
+    @Test
+    void forcesTheSubqueryOnSingleValuedPaths() {
+        long count = repository.count(DynamicSpecification.<Person, StateFilter>bind(StateFilter.class,
+                DynamicArgs.instance().withParams("state", "SP")));
+
+        assertThat(count).isEqualTo(40);
+        assertThat(SqlCapture.statements()).singleElement().asString().contains("exists");
+    }
+}
@@ -0,0 +1,55 @@
+package com.eleodorodev.specification.config;
+
+import com.eleodorodev.specification.fixture.PersonRepository;
+import com.eleodorodev.specification.repository.SimpleDynamicRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactoryBean;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+/**
+ * Base class installed on the dynamic repositories
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ */
+class DynamicRepositoryPostProcessorTest {
+
+    static class CustomDynamicRepository<T, ID extends java.io.Serializable> extends SimpleDynamicRepository<T, ID> {
+        CustomDynamicRepository(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+            super(entityInformation, entityManager);
+        }
+    }
+
+    @Test
+    void rejectsABaseClassNotImplementingTheDynamicMethods() {
+        DynamicRepositoryPostProcessor processor = processor(SimpleJpaRepository.class);
+
+        assertThatIllegalStateException()
+                .isThrownBy(() -> processor.postProcessBeforeInitialization(new JpaRepositoryFactoryBean<>(PersonRepository.class), "personRepository"))
+                .withMessageContaining(SimpleDynamicRepository.class.getName());
+    }
+
+    @Test
+    void keepsABaseClassExtendingTheDynamicOne() {
+        DynamicRepositoryPostProcessor processor = processor(CustomDynamicRepository.class.getName());
+
+        assertThatNoException()
+                .isThrownBy(() -> processor.postProcessBeforeInitialization(new JpaRepositoryFactoryBean<>(PersonRepository.class), "personRepository"));
+    }
+
+    private static DynamicRepositoryPostProcessor processor(Object baseClass) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        RootBeanDefinition definition = new RootBeanDefinition(JpaRepositoryFactoryBean.class);
+        definition.getPropertyValues().add("repositoryBaseClass", baseClass);
+        beanFactory.registerBeanDefinition("personRepository", definition);
+        DynamicRepositoryPostProcessor processor = new DynamicRepositoryPostProcessor();
+        processor.setBeanFactory(beanFactory);
+        return processor;
+    }
+}
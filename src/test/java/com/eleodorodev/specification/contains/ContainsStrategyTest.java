@@ -0,0 +1,92 @@
+package com.eleodorodev.specification.contains;
+
+import com.eleodorodev.specification.DynamicSpecification;
+import com.eleodorodev.specification.annotation.DynamicSpecAttr;
+import com.eleodorodev.specification.enums.Conditional;
+import com.eleodorodev.specification.fixture.FixtureTest;
+import com.eleodorodev.specification.fixture.Person;
+import com.eleodorodev.specification.fixture.PersonRepository;
+import com.eleodorodev.specification.fixture.SqlCapture;
+import com.eleodorodev.specification.params.DynamicArgs;
+import com.eleodorodev.specification.params.deserialize.ListDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rendering of the CT conditional by each strategy
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ */
+@FixtureTest
+class ContainsStrategyTest {
+
+    static class IdFilter {
+        @JsonDeserialize(using = ListDeserializer.class)
+        @DynamicSpecAttr(property = "id", conditional = Conditional.CT)
+        private List<Long> id;
+    }
+
+    @Autowired
+    private PersonRepository repository;
+
+    @Test
+    void rendersSmallListsAsASingleIn() {
+        List<Long> ids = ids(1, 5);
+
+        List<String> sql = findAll(ids, ContainsStrategies.DEFAULT);
+
+        assertThat(sql).singleElement().asString().contains(" in (?,?,?,?,?)").doesNotContain(" or ");
+    }
+
+    @Test
+    void splitsLargeListsInChunks() {
+        List<Long> ids = ids(1, 25);
+
+        List<String> sql = findAll(ids, ContainsStrategies.builder().maxParameters(10).build());
+
+        assertThat(sql).singleElement().asString().contains(" or ");
+        assertThat(sql.getFirst().split(" in \\(")).hasSize(4);
+    }
+
+    @Test
+    void bindsLargeListsAsAnArrayComparedWithAny() {
+        ContainsStrategies strategies = ContainsStrategies.builder().arraySupported(true).arrayThreshold(10).build();
+
+        List<String> fifteen = findAll(ids(1, 15), strategies);
+        List<String> forty = findAll(ids(21, 60), strategies);
+
+        assertThat(fifteen).singleElement().asString().contains("= any(?)").doesNotContain(" in (");
+        assertThat(forty).isEqualTo(fifteen);
+    }
+
+    @Test
+    void negatesTheArrayComparison() {
+        ContainsStrategies strategies = ContainsStrategies.builder().arraySupported(true).arrayThreshold(10).build();
+        DynamicArgs args = DynamicArgs.instance().withParams("id", ids(1, 90), Conditional.CT).containsStrategies(strategies);
+
+        List<Person> people = repository.findAll(DynamicSpecification.not(DynamicSpecification.bind(IdFilter.class, args)));
+
+        assertThat(people).extracting(Person::getId).containsExactlyInAnyOrderElementsOf(ids(91, 100));
+    }
+
+    /**
+     * Runs the filter of the ids and returns the statements prepared
+     */
+    private List<String> findAll(List<Long> ids, ContainsStrategies strategies) {
+        DynamicArgs args = DynamicArgs.instance().withParams("id", ids, Conditional.CT).containsStrategies(strategies);
+        SqlCapture.clear();
+        List<Person> people = repository.findAll(DynamicSpecification.<Person, IdFilter>bind(IdFilter.class, args));
+        assertThat(people).extracting(Person::getId).containsExactlyInAnyOrderElementsOf(ids);
+        return SqlCapture.statements();
+    }
+
+    private static List<Long> ids(long from, long to) {
+        return LongStream.rangeClosed(from, to).boxed().toList();
+    }
+}
@@ -0,0 +1,109 @@
+package com.eleodorodev.specification.cost;
+
+import com.eleodorodev.specification.DynamicSpecification;
+import com.eleodorodev.specification.annotation.DynamicSpecAttr;
+import com.eleodorodev.specification.enums.CostPolicy;
+import com.eleodorodev.specification.exception.DynamicParamValidationException;
+import com.eleodorodev.specification.fixture.FixtureTest;
+import com.eleodorodev.specification.fixture.Person;
+import com.eleodorodev.specification.fixture.PersonRepository;
+import com.eleodorodev.specification.fixture.SqlCapture;
+import com.eleodorodev.specification.params.DynamicArgs;
+import com.eleodorodev.specification.params.DynamicArgsConverter;
+import com.eleodorodev.specification.params.annotation.DynamicParam;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.domain.Specification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Query cost budget of the search mode
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ */
+@FixtureTest
+class DynamicQueryBudgetTest {
+
+    static class PersonSearch {
+        @DynamicSpecAttr(property = "status", indexed = false)
+        private String status;
+
+        @DynamicSpecAttr(property = "state", parents = "city")
+        private String state;
+    }
+
+    @Autowired
+    private PersonRepository repository;
+
+    @Autowired
+    private DynamicArgsConverter converter;
+
+    @BeforeEach
+    void clear() {
+        SqlCapture.clear();
+    }
+
+    @Test
+    void appliesTheFilterWithoutBudget() {
+        assertThat(repository.count(bind("q=status=ACT;LK", "endpoint"))).isEqualTo(67);
+    }
+
+    @Test
+    void appliesTheFilterWithinTheBudget() {
+        assertThat(repository.count(bind("q=status=ACTIVE&state=SP", "reject"))).isEqualTo(14);
+    }
+
+    @Test
+    void rejectsTheFilterExceedingTheBudget() {
+        assertThatExceptionOfType(DynamicParamValidationException.class)
+                .isThrownBy(() -> bind("q=status=ACT;LK", "reject"))
+                .withMessageContaining("exceeds the budget of 50.0")
+                .withMessageContaining("status");
+        assertThat(SqlCapture.statements()).isEmpty();
+    }
+
+    @Test
+    void downgradesTheFilterExceedingTheBudgetToItsDefaults() {
+        assertThat(repository.count(bind("q=status=ACT;LK", "downgrade"))).isZero();
+        assertThat(SqlCapture.statements()).singleElement().asString().doesNotContain(" like ");
+    }
+
+    @Test
+    void weighsTheTermsByTheDefaultModel() {
+        DefaultDynamicCostModel model = DefaultDynamicCostModel.builder().build();
+        DynamicArgs args = converter.convert("q=status=ACT;OR,LK,NOT&state=SP", param("endpoint"));
+
+        // status: like 20, unindexed x10, negated x2, OR x3 = 1200; state: equal 1 + one join 3 = 4
+        assertThatExceptionOfType(DynamicParamValidationException.class)
+                .isThrownBy(() -> DynamicSpecification.bind(PersonSearch.class, args.budget(1199).costModel(model)));
+        DynamicSpecification.bind(PersonSearch.class, args.budget(1204).costModel(model));
+    }
+
+    private Specification<Person> bind(String query, String endpoint) {
+        return DynamicSpecification.bind(PersonSearch.class, converter.convert(query, param(endpoint)));
+    }
+
+    private static DynamicParam param(String endpoint) {
+        try {
+            return DynamicQueryBudgetTest.class.getDeclaredMethod(endpoint, DynamicArgs.class)
+                    .getParameters()[0].getAnnotation(DynamicParam.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private void endpoint(@DynamicParam(search = true) DynamicArgs args) {
+    }
+
+    @SuppressWarnings("unused")
+    private void reject(@DynamicParam(search = true, budget = 50) DynamicArgs args) {
+    }
+
+    @SuppressWarnings("unused")
+    private void downgrade(@DynamicParam(search = true, budget = 50, costPolicy = CostPolicy.DOWNGRADE) DynamicArgs args) {
+    }
+}
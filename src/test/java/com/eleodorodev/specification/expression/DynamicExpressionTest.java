@@ -0,0 +1,100 @@
+package com.eleodorodev.specification.expression;
+
+import com.eleodorodev.specification.DynamicSpecification;
+import com.eleodorodev.specification.annotation.DynamicSpecAttr;
+import com.eleodorodev.specification.enums.Conditional;
+import com.eleodorodev.specification.exception.DynamicParamArgumentException;
+import com.eleodorodev.specification.exception.DynamicParamValidationException;
+import com.eleodorodev.specification.expression.DynamicExpression.And;
+import com.eleodorodev.specification.expression.DynamicExpression.Not;
+import com.eleodorodev.specification.expression.DynamicExpression.Or;
+import com.eleodorodev.specification.expression.DynamicExpression.Term;
+import com.eleodorodev.specification.fixture.FixtureTest;
+import com.eleodorodev.specification.fixture.Person;
+import com.eleodorodev.specification.fixture.PersonRepository;
+import com.eleodorodev.specification.params.DynamicArgs;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Parsing and compiling of the grouped filter expressions
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ */
+@FixtureTest
+class DynamicExpressionTest {
+
+    static class PersonSearch {
+        @DynamicSpecAttr(property = "status")
+        private String status;
+
+        @DynamicSpecAttr(property = "age")
+        private Long age;
+
+        @DynamicSpecAttr(property = "name", alias = "fullName", conditional = Conditional.LK)
+        private String name;
+    }
+
+    @Autowired
+    private PersonRepository repository;
+
+    @Test
+    void bindsNotTighterThanAndTighterThanOr() {
+        assertThat(DynamicExpression.parse("a:1 OR b:2 AND NOT c:3")).isEqualTo(new Or(List.of(
+                new Term("a", null, 1L),
+                new And(List.of(new Term("b", null, 2L), new Not(new Term("c", null, 3L)))))));
+    }
+
+    @Test
+    void readsConditionalsListsAndQuotedValues() {
+        assertThat(DynamicExpression.parse("(name:lk:'d''avila' or age:BW:20,30)")).isEqualTo(new Or(List.of(
+                new Term("name", Conditional.LK, "d'avila"),
+                new Term("age", Conditional.BW, List.of(20L, 30L)))));
+        assertThat(DynamicExpression.parse("name:'a:b (c)'")).isEqualTo(new Term("name", null, "a:b (c)"));
+    }
+
+    @Test
+    void reusesTheTreeOfTheSameText() {
+        String text = "status:ACTIVE AND age:GT:40";
+
+        assertThat(DynamicExpression.parse(text)).isSameAs(DynamicExpression.parse(text));
+    }
+
+    @Test
+    void rejectsInvalidExpressions() {
+        assertThatExceptionOfType(DynamicParamArgumentException.class).isThrownBy(() -> DynamicExpression.parse("(a:1"))
+                .withMessageContaining("Expected ')'");
+        assertThatExceptionOfType(DynamicParamArgumentException.class).isThrownBy(() -> DynamicExpression.parse("a:'open"))
+                .withMessageContaining("Unterminated");
+        assertThatExceptionOfType(DynamicParamArgumentException.class).isThrownBy(() -> DynamicExpression.parse("a:1 b:2"))
+                .withMessageContaining("Unexpected 'b'");
+        assertThatExceptionOfType(DynamicParamArgumentException.class).isThrownBy(() -> DynamicExpression.parse(" "))
+                .withMessageContaining("empty");
+        assertThatExceptionOfType(DynamicParamArgumentException.class)
+                .isThrownBy(() -> DynamicExpression.parse("(".repeat(DynamicExpressionParser.MAX_DEPTH + 1) + "a:1"))
+                .withMessageContaining("nested deeper");
+    }
+
+    @Test
+    void filtersByTheGroupedExpression() {
+        assertThat(count("(status:ACTIVE OR status:BLOCKED) AND age:GTE:60")).isEqualTo(11);
+        assertThat(count("status:ACTIVE OR status:BLOCKED AND age:GTE:60")).isEqualTo(38);
+        assertThat(count("NOT status:INACTIVE AND fullName:'person 9'")).isEqualTo(8);
+    }
+
+    @Test
+    void rejectsPropertiesNotAnnotated() {
+        assertThatExceptionOfType(DynamicParamValidationException.class).isThrownBy(() -> count("email:x"))
+                .withMessageContaining("'email' is not allowed");
+    }
+
+    private long count(String expression) {
+        DynamicArgs args = DynamicArgs.instance().search(true).expression(expression);
+        return repository.count(DynamicSpecification.<Person, PersonSearch>bind(PersonSearch.class, args));
+    }
+}
@@ -0,0 +1,28 @@
+package com.eleodorodev.specification.fixture;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * City of the fixture, reached from the people through a many-to-one join
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "city")
+public class City {
+
+    @Id
+    private Long id;
+
+    @Column(name = "name")
+    private String name;
+
+    @Column(name = "state")
+    private String state;
+}
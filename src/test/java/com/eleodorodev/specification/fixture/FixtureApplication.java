@@ -0,0 +1,14 @@
+package com.eleodorodev.specification.fixture;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * FixtureApplication
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ * @apiNote Application of the tests annotated with {@link FixtureTest}, the entities and the repositories of this
+ * package run on an embedded H2 seeded by {@code fixture/data.sql}
+ */
+@SpringBootApplication
+public class FixtureApplication {
+}
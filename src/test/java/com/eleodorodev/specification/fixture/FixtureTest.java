@@ -0,0 +1,22 @@
+package com.eleodorodev.specification.fixture;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.annotation.*;
+
+/**
+ * FixtureTest
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ * @apiNote Runs the test against the {@link FixtureApplication} with the {@code fixture} profile: 100 people in 5
+ * cities, the first 60 with two phones each. Every context gets its own embedded database
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@ActiveProfiles("fixture")
+@SpringBootTest(classes = FixtureApplication.class)
+public @interface FixtureTest {
+}
@@ -0,0 +1,19 @@
+package com.eleodorodev.specification.fixture;
+
+import com.zaxxer.hikari.SQLExceptionOverride;
+
+import java.sql.SQLException;
+
+/**
+ * Keeps in the pool the connections whose statement was cancelled or timed out. H2 reports them with the SQL state
+ * 57014 as a {@link java.sql.SQLTimeoutException}, which Hikari would evict as broken
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ */
+public class KeepCancelledConnections implements SQLExceptionOverride {
+
+    @java.lang.Override
+    public Override adjudicate(SQLException e) {
+        return "57014".equals(e.getSQLState()) ? Override.DO_NOT_EVICT : Override.CONTINUE_EVICT;
+    }
+}
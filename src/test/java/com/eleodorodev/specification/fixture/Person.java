@@ -0,0 +1,52 @@
+package com.eleodorodev.specification.fixture;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Person of the fixture, root of the filters of the tests
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "person", indexes = {@Index(columnList = "status"), @Index(columnList = "age")})
+public class Person {
+
+    @Id
+    private Long id;
+
+    @Column(name = "name")
+    private String name;
+
+    @Column(name = "email")
+    private String email;
+
+    @Column(name = "age")
+    private Long age;
+
+    @Column(name = "status")
+    private String status;
+
+    @Column(name = "created_at")
+    private Instant createdAt;
+
+    @Column(name = "birth_date")
+    private LocalDate birthDate;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "city_id")
+    private City city;
+
+    @OneToMany(mappedBy = "person")
+    private List<Phone> phones = new ArrayList<>();
+}
@@ -0,0 +1,13 @@
+package com.eleodorodev.specification.fixture;
+
+import com.eleodorodev.specification.DynamicRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository of the people
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ */
+@Repository
+public interface PersonRepository extends DynamicRepository<Person, Long> {
+}
@@ -0,0 +1,32 @@
+package com.eleodorodev.specification.fixture;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Phone of the fixture, collection of the people filtered through EXISTS subqueries
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "phone")
+public class Phone {
+
+    @Id
+    private Long id;
+
+    @Column(name = "phone_number")
+    private String number;
+
+    @Column(name = "kind")
+    private String kind;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "person_id")
+    private Person person;
+}
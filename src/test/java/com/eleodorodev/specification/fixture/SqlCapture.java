@@ -0,0 +1,35 @@
+package com.eleodorodev.specification.fixture;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * SqlCapture
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ * @apiNote Statement inspector of the fixture, records the SQL prepared by Hibernate so the tests can assert on the
+ * statements a call renders. Call {@link #clear()} before the call under test
+ */
+public class SqlCapture implements StatementInspector {
+
+    private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        statements.add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        statements.clear();
+    }
+
+    /**
+     * Statements prepared since the last {@link #clear()}, in lower case
+     */
+    public static List<String> statements() {
+        return statements.stream().map(String::toLowerCase).toList();
+    }
+}
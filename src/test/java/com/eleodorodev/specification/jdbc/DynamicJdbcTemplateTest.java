@@ -0,0 +1,111 @@
+package com.eleodorodev.specification.jdbc;
+
+import com.eleodorodev.specification.DynamicSpecification;
+import com.eleodorodev.specification.annotation.DynamicSpecAttr;
+import com.eleodorodev.specification.enums.Conditional;
+import com.eleodorodev.specification.fixture.FixtureTest;
+import com.eleodorodev.specification.fixture.Person;
+import com.eleodorodev.specification.fixture.PersonRepository;
+import com.eleodorodev.specification.params.DynamicArgs;
+import com.eleodorodev.specification.params.deserialize.ListDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JDBC backend compared with the criteria one over the same filter
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ */
+@FixtureTest
+class DynamicJdbcTemplateTest {
+
+    /**
+     * Filter declared in a DTO instead of the entity
+     */
+    static class PersonFilter {
+        @DynamicSpecAttr(property = "name", conditional = Conditional.LK)
+        private String name;
+
+        @DynamicSpecAttr(property = "status")
+        private String status;
+
+        @JsonDeserialize(using = ListDeserializer.class)
+        @DynamicSpecAttr(property = "age", conditional = Conditional.BW)
+        private List<Long> age;
+
+        @DynamicSpecAttr(property = "state", parents = "city")
+        private String state;
+    }
+
+    record PersonRow(Long id, String name, String status) {
+    }
+
+    @Autowired
+    private DynamicJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PersonRepository repository;
+
+    @Test
+    void readsTheFilterOfTheAnnotatedClass() {
+        DynamicArgs args = DynamicArgs.instance()
+                .withParams("status", "ACTIVE")
+                .withParams("age", List.of(20L, 50L))
+                .withParams("state", "SP");
+
+        List<PersonRow> rows = jdbcTemplate.findAll(Person.class, PersonFilter.class, args, Sort.by("id"), PersonRow.class);
+
+        assertThat(rows).isNotEmpty();
+        assertThat(rows).extracting(PersonRow::id).containsExactlyElementsOf(ids(args, Sort.by("id")));
+    }
+
+    @Test
+    void pagesAndCountsTheRows() {
+        DynamicArgs args = DynamicArgs.instance().withParams("status", "BLOCKED");
+        PageRequest pageable = PageRequest.of(1, 5, Sort.by(Sort.Direction.DESC, "id"));
+
+        Page<PersonRow> page = jdbcTemplate.findAll(Person.class, PersonFilter.class, args, pageable, PersonRow.class);
+
+        List<Long> expected = ids(args, pageable.getSort());
+        assertThat(page.getTotalElements()).isEqualTo(expected.size());
+        assertThat(page.getContent()).extracting(PersonRow::id).containsExactlyElementsOf(expected.subList(5, 10));
+    }
+
+    @Test
+    void matchesANumericValueWithLike() {
+        DynamicArgs args = DynamicArgs.instance().withParams("name", 7L);
+
+        List<PersonRow> rows = jdbcTemplate.findAll(Person.class, PersonFilter.class, args, Sort.by("id"), PersonRow.class);
+
+        assertThat(rows).extracting(PersonRow::id).isNotEmpty().containsExactlyElementsOf(repository.findAll(Sort.by("id")).stream()
+                .filter(person -> person.getName().contains("7"))
+                .map(Person::getId)
+                .toList());
+    }
+
+    @Test
+    void streamsTheRows() {
+        DynamicArgs args = DynamicArgs.instance().withParams("state", "RJ");
+
+        try (Stream<PersonRow> rows = jdbcTemplate.stream(Person.class, PersonFilter.class, args, Sort.by("id"), PersonRow.class)) {
+            assertThat(rows.map(PersonRow::id).toList()).containsExactlyElementsOf(ids(args, Sort.by("id")));
+        }
+    }
+
+    /**
+     * Ids read by the criteria backend
+     */
+    private List<Long> ids(DynamicArgs args, Sort sort) {
+        return repository.findAll(DynamicSpecification.<Person, PersonFilter>bind(PersonFilter.class, args), sort)
+                .stream().map(Person::getId).toList();
+    }
+}
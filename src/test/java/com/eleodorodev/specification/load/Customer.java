@@ -0,0 +1,44 @@
+package com.eleodorodev.specification.load;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Customer of the load dataset, root of the filters of the {@link CustomerController}
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "customer", indexes = {@Index(columnList = "status"), @Index(columnList = "score")})
+public class Customer {
+
+    @Id
+    private Long id;
+
+    @Column(name = "name")
+    private String name;
+
+    @Column(name = "email")
+    private String email;
+
+    @Column(name = "status")
+    private String status;
+
+    @Column(name = "score")
+    private Long score;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "city_id")
+    private City city;
+
+    @OneToMany(mappedBy = "customer")
+    private List<PurchaseOrder> orders = new ArrayList<>();
+}
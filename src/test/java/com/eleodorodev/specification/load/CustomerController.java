@@ -0,0 +1,52 @@
+package com.eleodorodev.specification.load;
+
+import com.eleodorodev.specification.DynamicSpecification;
+import com.eleodorodev.specification.params.DynamicArgs;
+import com.eleodorodev.specification.params.annotation.DynamicParam;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.web.PagedModel;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Endpoints hit by the load suite, the filter ones with the conditionals of the {@link CustomerFilter} and the
+ * search ones with the conditionals and the expression of the query string
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ */
+@RestController
+@RequestMapping("/customers")
+@RequiredArgsConstructor
+public class CustomerController {
+
+    private final CustomerRepository repository;
+
+    @GetMapping
+    public PagedModel<CustomerView> filter(@DynamicParam(required = false, fetch = "city") DynamicArgs args, Pageable pageable) {
+        return find(args, pageable);
+    }
+
+    @GetMapping("/search")
+    public PagedModel<CustomerView> search(@DynamicParam(required = false, search = true, fetch = "city") DynamicArgs args, Pageable pageable) {
+        return find(args, pageable);
+    }
+
+    private PagedModel<CustomerView> find(DynamicArgs args, Pageable pageable) {
+        Specification<Customer> spec = DynamicSpecification.bind(CustomerFilter.class, args);
+        return new PagedModel<>(repository.findAllByIdsFirst(spec, pageable, args.fetch().toArray(String[]::new))
+                .map(CustomerView::of));
+    }
+
+    /**
+     * Customer returned by the endpoints, its city is fetched with the page
+     */
+    public record CustomerView(Long id, String name, String email, String status, Long score, String city) {
+        static CustomerView of(Customer customer) {
+            return new CustomerView(customer.getId(), customer.getName(), customer.getEmail(), customer.getStatus(),
+                    customer.getScore(), customer.getCity().getName());
+        }
+    }
+}
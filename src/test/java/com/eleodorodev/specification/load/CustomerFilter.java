@@ -0,0 +1,39 @@
+package com.eleodorodev.specification.load;
+
+import com.eleodorodev.specification.annotation.DynamicSpecAttr;
+import com.eleodorodev.specification.enums.Conditional;
+import com.eleodorodev.specification.params.deserialize.ListDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+import java.util.List;
+
+/**
+ * Filters of the {@link CustomerController}, one of each kind exercised by the load suite: a like scan, a list,
+ * a range, many-to-one joins and collection filters sharing an EXISTS subquery
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ */
+public class CustomerFilter {
+
+    @DynamicSpecAttr(property = "email", conditional = Conditional.LK, indexed = false)
+    private String email;
+
+    @JsonDeserialize(using = ListDeserializer.class)
+    @DynamicSpecAttr(property = "status", conditional = Conditional.CT)
+    private List<String> status;
+
+    @DynamicSpecAttr(property = "score", conditional = Conditional.BW)
+    private List<Long> score;
+
+    @DynamicSpecAttr(property = "name", alias = "city", parents = "city")
+    private String city;
+
+    @DynamicSpecAttr(property = "state", parents = "city")
+    private String state;
+
+    @DynamicSpecAttr(property = "total", alias = "orderTotal", parents = "orders", conditional = Conditional.GTE, indexed = false)
+    private Long orderTotal;
+
+    @DynamicSpecAttr(property = "createdAt", alias = "orderedIn", parents = "orders", conditional = Conditional.IM)
+    private String orderedIn;
+}
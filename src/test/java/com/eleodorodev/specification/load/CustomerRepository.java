@@ -0,0 +1,13 @@
+package com.eleodorodev.specification.load;
+
+import com.eleodorodev.specification.DynamicRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository of the customers, backed by {@link com.eleodorodev.specification.repository.SimpleDynamicRepository}
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ */
+@Repository
+public interface CustomerRepository extends DynamicRepository<Customer, Long> {
+}
@@ -0,0 +1,95 @@
+package com.eleodorodev.specification.load;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.FieldSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * DynamicLoadTest
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ * @apiNote Load and latency regression suite, run with {@code mvn test -Pload}. Each {@link LoadScenario} is sent
+ * {@code load.warm-up} times, then measured over {@code load.iterations} requests: latency, SQL statements prepared
+ * and bytes allocated per request. The requests run through {@link MockMvc} on the calling thread, so the allocations
+ * of the thread cover the whole request, the embedded database included. The suite fails when a scenario regresses
+ * against the {@link LoadBaseline}
+ */
+@Tag("load")
+@ActiveProfiles("load")
+@AutoConfigureMockMvc
+@SpringBootTest(classes = LoadTestApplication.class)
+class DynamicLoadTest {
+
+    private static final int WARM_UP = Integer.getInteger("load.warm-up", 50);
+    private static final int ITERATIONS = Integer.getInteger("load.iterations", 200);
+
+    static final List<LoadScenario> scenarios = LoadScenario.ALL;
+
+    private static final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final List<LoadReport> reports = new ArrayList<>();
+    private static LoadBaseline baseline;
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeAll
+    static void loadBaseline() {
+        baseline = LoadBaseline.load();
+    }
+
+    @AfterAll
+    static void writeReport() {
+        reports.forEach(System.out::println);
+        LoadBaseline.write(reports);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @FieldSource("scenarios")
+    void staysWithinTheBaseline(LoadScenario scenario) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        assertTrue(statistics.isStatisticsEnabled(), "hibernate.generate_statistics must be enabled by the load profile");
+        for (int i = 0; i < WARM_UP; i++) {
+            mvc.perform(get(scenario.uri())).andExpect(status().isOk());
+        }
+
+        long[] nanos = new long[ITERATIONS];
+        long[] statements = new long[ITERATIONS];
+        long[] bytes = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            statistics.clear();
+            long allocated = threads.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            mvc.perform(get(scenario.uri())).andExpect(status().isOk());
+            nanos[i] = System.nanoTime() - start;
+            bytes[i] = threads.getCurrentThreadAllocatedBytes() - allocated;
+            statements[i] = statistics.getPrepareStatementCount();
+        }
+
+        LoadReport report = LoadReport.of(scenario.name(), nanos, statements, bytes);
+        reports.add(report);
+        List<String> regressions = baseline.regressions(report);
+        assertTrue(regressions.isEmpty(), () -> String.join(System.lineSeparator(), regressions));
+    }
+}
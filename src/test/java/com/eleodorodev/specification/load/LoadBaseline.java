@@ -0,0 +1,93 @@
+package com.eleodorodev.specification.load;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * LoadBaseline
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ * @apiNote Committed measures of the load suite, read from {@code load/baseline.properties}. A scenario regresses
+ * when its latency or its allocations grow beyond the tolerances of the baseline, or when it prepares more
+ * statements than recorded. The measures of each run are written in the same format to
+ * {@code target/load/report.properties}, to be copied over the baseline when a change is accepted
+ */
+final class LoadBaseline {
+
+    static final String RESOURCE = "load/baseline.properties";
+    static final Path REPORT = Path.of("target", "load", "report.properties");
+
+    private final Properties properties;
+
+    private LoadBaseline(Properties properties) {
+        this.properties = properties;
+    }
+
+    static LoadBaseline load() {
+        Properties properties = new Properties();
+        try (InputStream input = LoadBaseline.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+            if (input == null) throw new IllegalStateException("Baseline " + RESOURCE + " not found");
+            properties.load(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new LoadBaseline(properties);
+    }
+
+    /**
+     * Regressions of the report, empty when it is within the baseline
+     */
+    List<String> regressions(LoadReport report) {
+        String scenario = report.scenario();
+        if (!properties.containsKey(scenario + ".p50")) {
+            return List.of("Scenario '" + scenario + "' has no baseline, copy its entries from " + REPORT);
+        }
+        double latency = number("tolerance.latency");
+        double allocated = number("tolerance.allocated");
+
+        List<String> regressions = new ArrayList<>();
+        check(regressions, scenario, "p50", report.p50(), number(scenario + ".p50") * latency);
+        check(regressions, scenario, "p99", report.p99(), number(scenario + ".p99") * latency);
+        check(regressions, scenario, "statements", report.statements(), number(scenario + ".statements"));
+        check(regressions, scenario, "allocated", report.allocated(), number(scenario + ".allocated") * allocated);
+        return regressions;
+    }
+
+    /**
+     * Writes the reports to {@link #REPORT} in the format of the baseline
+     */
+    static void write(List<LoadReport> reports) {
+        StringBuilder content = new StringBuilder("# Measures of the last run of the load suite, see ")
+                .append(RESOURCE).append(System.lineSeparator());
+        for (LoadReport report : reports) {
+            content.append(String.format(Locale.ROOT, "%1$s.p50=%2$.2f%n%1$s.p99=%3$.2f%n%1$s.statements=%4$d%n%1$s.allocated=%5$.1f%n",
+                    report.scenario(), report.p50(), report.p99(), report.statements(), report.allocated()));
+        }
+        try {
+            Files.createDirectories(REPORT.getParent());
+            try (Writer writer = Files.newBufferedWriter(REPORT)) {
+                writer.write(content.toString());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private double number(String key) {
+        return Double.parseDouble(properties.getProperty(key).trim());
+    }
+
+    private static void check(List<String> regressions, String scenario, String measure, double value, double limit) {
+        if (value > limit) {
+            regressions.add(String.format(Locale.ROOT, "%s %s regressed: %.2f, limit %.2f", scenario, measure, value, limit));
+        }
+    }
+}
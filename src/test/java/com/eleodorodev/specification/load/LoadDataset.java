@@ -0,0 +1,62 @@
+package com.eleodorodev.specification.load;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * LoadDataset
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ * @apiNote Seeds the H2 database when the application starts, the rows are generated by the database itself from
+ * {@code SYSTEM_RANGE} so millions of them are inserted in a few statements. The values are derived from the row
+ * number, every run filters the same data
+ * <ul>
+ *     <li>{@code load.cities} - cities, spread over 27 states, 5000 by default</li>
+ *     <li>{@code load.customers} - customers, spread over the cities, 1000000 by default</li>
+ *     <li>{@code load.orders-per-customer} - orders of each customer over the last two years, 2 by default</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class LoadDataset implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int cities;
+    private final int customers;
+    private final int ordersPerCustomer;
+
+    public LoadDataset(JdbcTemplate jdbcTemplate,
+                       @Value("${load.cities:5000}") int cities,
+                       @Value("${load.customers:1000000}") int customers,
+                       @Value("${load.orders-per-customer:2}") int ordersPerCustomer) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cities = cities;
+        this.customers = customers;
+        this.ordersPerCustomer = ordersPerCustomer;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        jdbcTemplate.update("""
+                INSERT INTO city (id, name, state)
+                SELECT X, 'City-' || X, 'S' || MOD(X, 27) FROM SYSTEM_RANGE(1, ?)""", cities);
+        jdbcTemplate.update("""
+                INSERT INTO customer (id, name, email, status, score, city_id)
+                SELECT X, 'Customer ' || X, 'customer' || X || '@load.test',
+                       CASE WHEN MOD(X, 10) < 6 THEN 'ACTIVE' WHEN MOD(X, 10) < 9 THEN 'INACTIVE' ELSE 'BLOCKED' END,
+                       MOD(X * 7919, 1000), MOD(X, ?) + 1
+                FROM SYSTEM_RANGE(1, ?)""", cities, customers);
+        jdbcTemplate.update("""
+                INSERT INTO purchase_order (id, customer_id, total, created_at)
+                SELECT X, MOD(X - 1, ?) + 1, MOD(X * 104729, 100000), DATEADD('DAY', -MOD(X, 730), DATE '2026-01-01')
+                FROM SYSTEM_RANGE(1, ?)""", customers, (long) customers * ordersPerCustomer);
+        jdbcTemplate.execute("ANALYZE");
+        log.info("Load dataset seeded with {} cities, {} customers and {} orders in {} ms", cities, customers,
+                (long) customers * ordersPerCustomer, (System.nanoTime() - start) / 1_000_000);
+    }
+}
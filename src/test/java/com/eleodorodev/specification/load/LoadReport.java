@@ -0,0 +1,41 @@
+package com.eleodorodev.specification.load;
+
+import java.util.Arrays;
+
+/**
+ * Measures of a scenario of the load suite
+ *
+ * @param scenario   name of the scenario
+ * @param p50        median latency in milliseconds
+ * @param p99        99th percentile of the latency in milliseconds
+ * @param statements largest number of SQL statements prepared by a request
+ * @param allocated  mean of the kilobytes allocated by a request
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ */
+public record LoadReport(String scenario, double p50, double p99, long statements, double allocated) {
+
+    /**
+     * Report of the measures of each request
+     *
+     * @param nanos      latency of each request in nanoseconds
+     * @param statements statements prepared by each request
+     * @param bytes      bytes allocated by each request
+     */
+    static LoadReport of(String scenario, long[] nanos, long[] statements, long[] bytes) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return new LoadReport(scenario, percentile(sorted, 0.50), percentile(sorted, 0.99),
+                Arrays.stream(statements).max().orElse(0),
+                Arrays.stream(bytes).average().orElse(0) / 1024);
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000d;
+    }
+
+    @Override
+    public String toString() {
+        return "%-20s p50 %8.2f ms  p99 %8.2f ms  %2d statements  %10.1f KB".formatted(scenario, p50, p99, statements, allocated);
+    }
+}
@@ -0,0 +1,36 @@
+package com.eleodorodev.specification.load;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Request of the load suite
+ *
+ * @param name name of the scenario, key of its entries in the baseline
+ * @param uri  request sent to the {@link CustomerController}, already encoded
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ */
+public record LoadScenario(String name, URI uri) {
+
+    /**
+     * Representative filter mixes, from a single indexed column to the search expressions
+     */
+    public static final List<LoadScenario> ALL = List.of(
+            new LoadScenario("like-scan", "/customers?q=email=customer1234&size=20"),
+            new LoadScenario("list-and-range", "/customers?q=status=INACTIVE,BLOCKED&score=100,200&size=20"),
+            new LoadScenario("many-to-one-join", "/customers?q=city=City-42&size=20"),
+            new LoadScenario("join-and-list", "/customers?q=state=S7&status=ACTIVE&size=20&sort=score,desc"),
+            new LoadScenario("collection-exists", "/customers?q=orderTotal=95000&orderedIn=2025-06&size=20"),
+            new LoadScenario("search-operators", "/customers/search?q=score=900;gte&status=ACTIVE,INACTIVE;ct&size=20"),
+            new LoadScenario("search-expression",
+                    "/customers/search?q=filter=status:ACTIVE%20AND%20(score:gte:900%20OR%20city:%27City-7%27)&size=20"));
+
+    public LoadScenario(String name, String uri) {
+        this(name, URI.create(uri));
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
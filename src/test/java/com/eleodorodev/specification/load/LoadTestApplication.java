@@ -0,0 +1,14 @@
+package com.eleodorodev.specification.load;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * LoadTestApplication
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ * @apiNote Application of the load suite, the entities, the repository and the endpoints of this package run on an
+ * embedded H2 seeded by the {@link LoadDataset}
+ */
+@SpringBootApplication
+public class LoadTestApplication {
+}
@@ -0,0 +1,37 @@
+package com.eleodorodev.specification.load;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * Order of the load dataset, reached from the customers through a collection
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "purchase_order", indexes = @Index(columnList = "created_at"))
+public class PurchaseOrder {
+
+    @Id
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "customer_id")
+    private Customer customer;
+
+    /**
+     * Total in cents
+     */
+    @Column(name = "total")
+    private Long total;
+
+    @Column(name = "created_at")
+    private LocalDate createdAt;
+}
@@ -0,0 +1,93 @@
+package com.eleodorodev.specification.params;
+
+import com.eleodorodev.specification.enums.Conditional;
+import com.eleodorodev.specification.enums.Conjunction;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.util.Pair;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Compact parsed form of the {@link DynamicArgs} values
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ */
+class DynamicArgTest {
+
+    @Test
+    void decodesTheOperatorsOnce() {
+        DynamicArg arg = DynamicArg.of("name", "ana", " or ,lk,NOT,unknown");
+
+        assertThat(arg.conjunction()).isEqualTo(Conjunction.OR);
+        assertThat(arg.conditional()).isEqualTo(Conditional.LK);
+        assertThat(arg.negate()).isTrue();
+        assertThat(arg.overridden()).isTrue();
+        assertThat(DynamicArg.of("name", "ana", "unknown").overridden()).isFalse();
+        assertThat(DynamicArg.of("name", "ana", null).operators()).isEmpty();
+    }
+
+    @Test
+    void internsTheKeys() {
+        String key = new String("status".toCharArray());
+
+        assertThat(DynamicArg.of(key, "ACTIVE", "").key()).isSameAs("status");
+    }
+
+    @Test
+    void keepsTheNumbersUnboxed() {
+        DynamicArg longs = DynamicArg.of("ids", List.of(1L, 2L, 3L), "CT");
+        DynamicArg doubles = DynamicArg.of("prices", List.of(1.5, 2.5), "");
+
+        assertThat(longs.longs()).containsExactly(1L, 2L, 3L);
+        assertThat(longs.doubles()).isNull();
+        assertThat(doubles.doubles()).containsExactly(1.5, 2.5);
+        assertThat(longs.isList()).isTrue();
+        assertThat(DynamicArg.of("age", 30L, "").value()).isEqualTo(30L);
+        assertThat(DynamicArg.of("age", 30L, "").isList()).isFalse();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void neverExposesTheInternalArrays() {
+        DynamicArg arg = DynamicArg.of("ids", List.of(1L, 2L), "");
+
+        arg.longs()[0] = 99;
+
+        assertThat(arg.longs()).containsExactly(1L, 2L);
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> ((List<Object>) arg.asList()).add(3L));
+    }
+
+    @Test
+    void reusesTheBoxedViews() {
+        DynamicArg arg = DynamicArg.of("ids", List.of(1L, 2L), "CT");
+
+        assertThat(arg.value()).isEqualTo(List.of(1L, 2L)).isSameAs(arg.value());
+        assertThat(arg.toPair()).isEqualTo(Pair.of(List.of(1L, 2L), "CT")).isSameAs(arg.toPair());
+        assertThat(DynamicArg.of("name", "ana", "").asList()).isEqualTo(List.of("ana"));
+    }
+
+    @Test
+    void comparesByTheParsedValue() {
+        assertThat(DynamicArg.of("ids", List.of(1L, 2L), "CT")).isEqualTo(DynamicArg.of("ids", List.of(1L, 2L), "CT"))
+                .hasSameHashCodeAs(DynamicArg.of("ids", List.of(1L, 2L), "CT"))
+                .isNotEqualTo(DynamicArg.of("ids", List.of(1L, 3L), "CT"))
+                .isNotEqualTo(DynamicArg.of("ids", List.of(1L, 2L), ""));
+    }
+
+    @Test
+    void adaptsToThePairView() {
+        Map<String, DynamicArg> args = new LinkedHashMap<>();
+        args.put("age", DynamicArg.of("age", 30L, "GTE"));
+        args.put("name", DynamicArg.of("name", "ana", ""));
+
+        Map<String, Pair<Object, String>> pairs = DynamicArg.pairs(args);
+
+        assertThat(pairs).hasSize(2).containsEntry("age", Pair.of(30L, "GTE")).containsEntry("name", Pair.of("ana", ""));
+        assertThat(pairs.get("missing")).isNull();
+    }
+}
@@ -0,0 +1,94 @@
+package com.eleodorodev.specification.params;
+
+import com.eleodorodev.specification.enums.Conditional;
+import com.eleodorodev.specification.fixture.FixtureTest;
+import com.eleodorodev.specification.params.annotation.DynamicParam;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.util.Pair;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cache of the parsed parameters and the copy-on-write {@link DynamicArgs}
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ */
+@FixtureTest
+class DynamicArgsConverterTest {
+
+    private static final String QUERY = "q=status=ACTIVE&age=30;GTE&name=ana";
+
+    private static final DynamicParam PARAM = annotation();
+
+    @Autowired
+    private DynamicArgsConverter converter;
+
+    @Test
+    void registersTheConverterWithTheConfiguredCache() {
+        assertThat(converter.cacheStats().capacity()).isEqualTo(512);
+    }
+
+    @Test
+    void keepsTheCacheOfEachConverter() {
+        DynamicArgsConverter first = new DynamicArgsConverter(16);
+        DynamicArgsConverter second = new DynamicArgsConverter(4);
+
+        first.convert(QUERY, PARAM);
+        first.convert(QUERY, PARAM);
+        second.convert(QUERY, PARAM);
+
+        assertThat(first.cacheStats()).isEqualTo(new DynamicArgsConverter.CacheStats(1, 1, 1, 16));
+        assertThat(second.cacheStats()).isEqualTo(new DynamicArgsConverter.CacheStats(0, 1, 1, 4));
+        assertThat(first.cacheStats().hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void parsesWithoutCacheWhenDisabled() {
+        DynamicArgsConverter uncached = new DynamicArgsConverter(0);
+
+        DynamicArgs args = uncached.convert(QUERY, PARAM);
+
+        assertThat(args.arg("status").value()).isEqualTo("ACTIVE");
+        assertThat(uncached.cacheStats()).isEqualTo(new DynamicArgsConverter.CacheStats(0, 0, 0, 0));
+    }
+
+    @Test
+    void sharesTheParsedValuesUntilChanged() {
+        DynamicArgsConverter cached = new DynamicArgsConverter(16);
+        DynamicArgs changed = cached.convert(QUERY, PARAM);
+        DynamicArgs untouched = cached.convert(QUERY, PARAM);
+
+        changed.value().put("status", Pair.of("BLOCKED", ""));
+        changed.value().remove("name");
+        changed.withParams("city", "Recife", Conditional.EQ);
+
+        assertThat(changed.value()).containsOnlyKeys("status", "age", "city");
+        assertThat(changed.arg("status").value()).isEqualTo("BLOCKED");
+        assertThat(untouched.value()).containsOnlyKeys("status", "age", "name");
+        assertThat(untouched.arg("status").value()).isEqualTo("ACTIVE");
+        assertThat(cached.convert(QUERY, PARAM).canonical()).isEqualTo(untouched.canonical());
+    }
+
+    @Test
+    void readsTheOperatorsOfEachValue() {
+        DynamicArgs args = converter.convert(QUERY, PARAM);
+
+        assertThat(args.arg("age").conditional()).isEqualTo(Conditional.GTE);
+        assertThat(args.arg("age").value()).isEqualTo(30L);
+        assertThat(args.search()).isTrue();
+    }
+
+    private static DynamicParam annotation() {
+        try {
+            return DynamicArgsConverterTest.class.getDeclaredMethod("endpoint", DynamicArgs.class)
+                    .getParameters()[0].getAnnotation(DynamicParam.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private void endpoint(@DynamicParam(search = true) DynamicArgs args) {
+    }
+}
@@ -0,0 +1,114 @@
+package com.eleodorodev.specification.query;
+
+import com.eleodorodev.specification.fixture.FixtureTest;
+import com.eleodorodev.specification.fixture.Person;
+import com.eleodorodev.specification.fixture.PersonRepository;
+import com.eleodorodev.specification.fixture.Phone;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Statement timeouts and cancellation of the repository queries
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ */
+@FixtureTest
+class DynamicQueryContextTest {
+
+    /**
+     * Filter scanning the people crossed three times with the phones, 172 million rows matching none
+     */
+    private static final Specification<Person> SLOW = (root, query, builder) -> {
+        Root<Phone> first = query.from(Phone.class);
+        Root<Phone> second = query.from(Phone.class);
+        Root<Phone> third = query.from(Phone.class);
+        return builder.equal(builder.concat(builder.concat(first.get("number"), second.get("number")), third.get("number")), "none");
+    };
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @Autowired
+    private PersonRepository repository;
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void stopsTheStatementAtTheTimeout() {
+        long timedOut = DynamicQueryContext.stats().timedOut();
+        long start = System.nanoTime();
+
+        // below half a second, kept as one second
+        assertThatExceptionOfType(QueryTimeoutException.class)
+                .isThrownBy(() -> DynamicQueryContext.withTimeout(Duration.ofMillis(200), () -> repository.findAll(SLOW)));
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(10));
+        assertThat(DynamicQueryContext.stats().timedOut()).isEqualTo(timedOut + 1);
+    }
+
+    @Test
+    void cancelsTheStatementBeingExecuted() throws Exception {
+        DynamicQueryContext context = new DynamicQueryContext(null);
+        long cancelled = DynamicQueryContext.stats().cancelled();
+        long timedOut = DynamicQueryContext.stats().timedOut();
+        Future<RuntimeException> failure = executor.submit(() -> {
+            try {
+                context.run(() -> repository.findAll(SLOW));
+                return null;
+            } catch (RuntimeException e) {
+                return e;
+            }
+        });
+        Thread.sleep(500);
+
+        context.cancel();
+
+        assertThat(failure.get(10, TimeUnit.SECONDS)).isNotNull();
+        assertThat(context.isCancelled()).isTrue();
+        assertThat(DynamicQueryContext.stats().cancelled()).isEqualTo(cancelled + 1);
+        assertThat(DynamicQueryContext.stats().timedOut()).isEqualTo(timedOut);
+    }
+
+    @Test
+    void cancelsTheContextWhenTheFutureIsCancelled() throws Exception {
+        DynamicQueryContext context = new DynamicQueryContext(null);
+        CompletableFuture<?> future = context.supplyAsync(() -> repository.findAll(SLOW), executor);
+        Thread.sleep(500);
+
+        future.cancel(true);
+
+        assertThat(context.isCancelled()).isTrue();
+        // translated by the repository proxy
+        assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+                .isThrownBy(() -> context.run(() -> repository.findAll(SLOW)))
+                .withCauseInstanceOf(CancellationException.class);
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void roundsTheTimeoutUpToWholeSeconds() {
+        assertThat(DynamicQueryContext.hint(Duration.ofMillis(200))).isEqualTo(1000);
+        assertThat(DynamicQueryContext.hint(Duration.ofMillis(1000))).isEqualTo(1000);
+        assertThat(DynamicQueryContext.hint(Duration.ofMillis(1500))).isEqualTo(2000);
+    }
+
+    @Test
+    void runsWithoutContextAsBefore() {
+        assertThat(DynamicQueryContext.current()).isNull();
+        assertThat(repository.count()).isEqualTo(100);
+    }
+}
@@ -0,0 +1,138 @@
+package com.eleodorodev.specification.query;
+
+import com.eleodorodev.specification.params.DynamicArgs;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Coalescing of identical concurrent queries
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ */
+class DynamicSingleFlightTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CountDownLatch running = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void sharesTheResultOfTheQueryInFlight() throws Exception {
+        DynamicArgs args = args();
+        Future<List<String>> leader = executor.submit(() -> DynamicSingleFlight.execute(String.class, Void.class, args, 0, this::blockingQuery));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Future<List<String>> follower = executor.submit(() -> DynamicSingleFlight.execute(String.class, Void.class, args(args), 0, this::blockingQuery));
+        awaitFollower();
+        release.countDown();
+
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(leader.get(5, TimeUnit.SECONDS));
+        assertThat(executions).hasValue(1);
+        assertThat(DynamicSingleFlight.stats().inFlight()).isZero();
+    }
+
+    @Test
+    void stopsWaitingAtTheTimeoutOfTheFollowerContext() throws Exception {
+        DynamicArgs args = args();
+        Future<List<String>> leader = executor.submit(() -> DynamicSingleFlight.execute(String.class, Void.class, args, 0, this::blockingQuery));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        long start = System.nanoTime();
+        assertThatExceptionOfType(QueryTimeoutException.class).isThrownBy(() -> DynamicQueryContext.withTimeout(Duration.ofMillis(200),
+                () -> DynamicSingleFlight.execute(String.class, Void.class, args(args), 0, this::blockingQuery)));
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).containsExactly("result");
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void stopsWaitingAtTheTimeoutOfTheArguments() throws Exception {
+        DynamicArgs args = args().timeout(200);
+        executor.submit(() -> DynamicSingleFlight.execute(String.class, Void.class, args, 0, this::blockingQuery));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatExceptionOfType(QueryTimeoutException.class)
+                .isThrownBy(() -> DynamicSingleFlight.execute(String.class, Void.class, args(args).timeout(200), 0, this::blockingQuery));
+    }
+
+    @Test
+    void runsTheQueryAgainWhenTheLeaderIsCancelled() throws Exception {
+        DynamicArgs args = args();
+        DynamicQueryContext context = new DynamicQueryContext(null);
+        Future<List<String>> leader = executor.submit(() -> context.run(() -> DynamicSingleFlight.execute(String.class, Void.class, args, 0, () -> {
+            running.countDown();
+            await(release);
+            throw new CancellationException("cancelled by the leader caller");
+        })));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Future<List<String>> follower = executor.submit(() -> DynamicSingleFlight.execute(String.class, Void.class, args(args), 0, () -> {
+            executions.incrementAndGet();
+            return List.of("rerun");
+        }));
+        awaitFollower();
+        release.countDown();
+
+        assertThat(follower.get(5, TimeUnit.SECONDS)).containsExactly("rerun");
+        assertThatExceptionOfType(ExecutionException.class).isThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                .withCauseInstanceOf(CancellationException.class);
+    }
+
+    private List<String> blockingQuery() {
+        executions.incrementAndGet();
+        running.countDown();
+        await(release);
+        return List.of("result");
+    }
+
+    /**
+     * Waits until a follower is waiting for the query in flight
+     */
+    private static void awaitFollower() throws InterruptedException {
+        long coalesced = DynamicSingleFlight.stats().coalesced();
+        for (int i = 0; i < 500 && DynamicSingleFlight.stats().coalesced() == coalesced; i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) throw new IllegalStateException("Not released");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Arguments unique to the test, so the tests never coalesce with each other
+     */
+    private static DynamicArgs args() {
+        return DynamicArgs.instance().withParams("id", UUID.randomUUID().toString());
+    }
+
+    /**
+     * Identical arguments in another instance
+     */
+    private static DynamicArgs args(DynamicArgs args) {
+        return DynamicArgs.instance().withParams("id", args.arg("id").value());
+    }
+}
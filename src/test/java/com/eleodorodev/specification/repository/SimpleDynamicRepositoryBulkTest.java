@@ -0,0 +1,89 @@
+package com.eleodorodev.specification.repository;
+
+import com.eleodorodev.specification.fixture.FixtureTest;
+import com.eleodorodev.specification.fixture.Person;
+import com.eleodorodev.specification.fixture.PersonRepository;
+import com.eleodorodev.specification.fixture.SqlCapture;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bulk statements through the repository proxy, rolled back after each test
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ */
+@FixtureTest
+@Transactional
+class SimpleDynamicRepositoryBulkTest {
+
+    /**
+     * People without phones, so they can be deleted
+     */
+    private static final Specification<Person> WITHOUT_PHONES = (root, query, builder) -> builder.gt(root.get("id"), 60L);
+    private static final Specification<Person> ACTIVE = (root, query, builder) -> builder.equal(root.get("status"), "ACTIVE");
+
+    @Autowired
+    private PersonRepository repository;
+
+    @Test
+    void deletesTheMatchingRowsInASingleStatement() {
+        Specification<Person> spec = WITHOUT_PHONES.and(ACTIVE);
+        long expected = repository.count(spec);
+
+        SqlCapture.clear();
+        assertThat(repository.deleteAll(spec)).isEqualTo(expected);
+
+        assertThat(SqlCapture.statements()).singleElement().asString().startsWith("delete").contains("in ((select");
+        assertThat(repository.count(spec)).isZero();
+        assertThat(repository.count()).isEqualTo(100 - expected);
+    }
+
+    @Test
+    void updatesTheMatchingRowsInASingleStatement() {
+        long expected = repository.count(ACTIVE);
+
+        SqlCapture.clear();
+        assertThat(repository.updateAll(ACTIVE, Map.of("status", "ARCHIVED"))).isEqualTo(expected);
+
+        assertThat(SqlCapture.statements()).singleElement().asString().startsWith("update").contains("in ((select");
+        assertThat(repository.count(ACTIVE)).isZero();
+        assertThat(repository.count((root, query, builder) -> builder.equal(root.get("status"), "ARCHIVED"))).isEqualTo(expected);
+    }
+
+    @Test
+    void deletesAndUpdatesInChunks() {
+        long expected = repository.count(WITHOUT_PHONES);
+
+        assertThat(repository.updateAll(WITHOUT_PHONES, Map.of("age", 99L), 7)).isEqualTo(expected);
+        assertThat(repository.count((root, query, builder) -> builder.equal(root.get("age"), 99L))).isEqualTo(expected);
+
+        assertThat(repository.deleteAll(WITHOUT_PHONES, 7)).isEqualTo(expected);
+        assertThat(repository.count(WITHOUT_PHONES)).isZero();
+    }
+
+    @Test
+    void readsTheIdsInAscendingRanges() {
+        List<Long> first = repository.findIds(WITHOUT_PHONES, null, 5);
+        List<Long> next = repository.findIds(WITHOUT_PHONES, first.getLast(), 5);
+
+        assertThat(first).containsExactly(61L, 62L, 63L, 64L, 65L);
+        assertThat(next).containsExactly(66L, 67L, 68L, 69L, 70L);
+    }
+
+    @Test
+    void deletesAndUpdatesById() {
+        assertThat(repository.updateAllById(List.of(61L, 62L, 999L), Map.of("name", "Renamed"))).isEqualTo(2);
+        assertThat(repository.findAllById(List.of(61L, 62L))).extracting(Person::getName).containsOnly("Renamed");
+
+        assertThat(repository.deleteInBatchById(List.of(61L, 62L, 999L))).isEqualTo(2);
+        assertThat(repository.existsById(61L)).isFalse();
+        assertThat(repository.deleteInBatchById(List.of())).isZero();
+    }
+}
@@ -0,0 +1,54 @@
+package com.eleodorodev.specification.repository;
+
+import com.eleodorodev.specification.annotation.DynamicSpecAttr;
+import com.eleodorodev.specification.DynamicSpecification;
+import com.eleodorodev.specification.fixture.FixtureTest;
+import com.eleodorodev.specification.fixture.Person;
+import com.eleodorodev.specification.fixture.PersonRepository;
+import com.eleodorodev.specification.params.DynamicArgs;
+import com.eleodorodev.specification.query.DynamicSingleFlight;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Coalesced queries through the repository proxy
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ */
+@FixtureTest
+class SimpleDynamicRepositoryCoalescedTest {
+
+    static class StatusFilter {
+        @DynamicSpecAttr(property = "status")
+        private String status;
+    }
+
+    @Autowired
+    private PersonRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @Transactional(readOnly = true)
+    void runsTheQueryAndDetachesTheResult() {
+        DynamicArgs args = DynamicArgs.instance().withParams("status", "ACTIVE");
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by("id"));
+        long executions = DynamicSingleFlight.stats().executions();
+
+        Page<Person> page = repository.findAllCoalesced(StatusFilter.class, args, pageable);
+
+        assertThat(DynamicSingleFlight.stats().executions()).isEqualTo(executions + 1);
+        assertThat(page.getContent()).extracting(Person::getId)
+                .containsExactlyElementsOf(repository.findAll(DynamicSpecification.<Person, StatusFilter>bind(StatusFilter.class, args), pageable)
+                        .map(Person::getId).getContent());
+        assertThat(page.getContent()).isNotEmpty().noneMatch(entityManager::contains);
+    }
+}
@@ -0,0 +1,90 @@
+package com.eleodorodev.specification.repository;
+
+import com.eleodorodev.specification.fixture.FixtureTest;
+import com.eleodorodev.specification.fixture.Person;
+import com.eleodorodev.specification.fixture.PersonRepository;
+import com.eleodorodev.specification.fixture.SqlCapture;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.JoinType;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.domain.Specification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Existence and capped counts through the repository proxy
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ */
+@FixtureTest
+class SimpleDynamicRepositoryExistsTest {
+
+    private static final Specification<Person> ACTIVE = (root, query, builder) -> builder.equal(root.get("status"), "ACTIVE");
+    private static final Specification<Person> WITH_PHONES = (root, query, builder) ->
+            builder.isNotNull(root.join("phones", JoinType.INNER).get("id"));
+    private static final Specification<Person> NOBODY = (root, query, builder) -> builder.equal(root.get("status"), "UNKNOWN");
+
+    @Autowired
+    private PersonRepository repository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void clearStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void checksExistenceWithoutLoadingEntities() {
+        assertThat(repository.exists(ACTIVE)).isTrue();
+        assertThat(repository.exists(NOBODY)).isFalse();
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void countsUpToTheCap() {
+        long active = repository.count(ACTIVE);
+        statistics.clear();
+
+        assertThat(repository.countUpTo(ACTIVE, 5)).isEqualTo(5);
+        assertThat(repository.countUpTo(ACTIVE, active + 10)).isEqualTo(active);
+        assertThat(repository.countUpTo(NOBODY, 5)).isZero();
+        assertThat(repository.countUpTo(ACTIVE, 0)).isZero();
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void readsASingleConstantRow() {
+        SqlCapture.clear();
+        repository.exists(ACTIVE);
+
+        assertThat(SqlCapture.statements()).singleElement().asString()
+                .startsWith("select 1 ").doesNotContain("distinct").containsAnyOf("fetch first", "limit");
+    }
+
+    @Test
+    void countsConstantRowsWhenNoCollectionIsJoined() {
+        SqlCapture.clear();
+        repository.countUpTo(ACTIVE, 5);
+
+        assertThat(SqlCapture.statements()).singleElement().asString()
+                .startsWith("select 1 ").doesNotContain("distinct");
+    }
+
+    @Test
+    void countsEachEntityOnceWhenACollectionIsJoined() {
+        SqlCapture.clear();
+
+        assertThat(repository.countUpTo(WITH_PHONES, 100)).isEqualTo(60);
+        assertThat(SqlCapture.statements()).singleElement().asString().contains("distinct");
+        assertThat(repository.exists(WITH_PHONES)).isTrue();
+    }
+}
@@ -0,0 +1,63 @@
+package com.eleodorodev.specification.repository;
+
+import com.eleodorodev.specification.DynamicFacet;
+import com.eleodorodev.specification.enums.Aggregate;
+import com.eleodorodev.specification.fixture.FixtureTest;
+import com.eleodorodev.specification.fixture.Person;
+import com.eleodorodev.specification.fixture.PersonRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Facets calculated through the repository proxy
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ */
+@FixtureTest
+class SimpleDynamicRepositoryFacetsTest {
+
+    private static final Specification<Person> ADULTS = (root, query, builder) -> builder.ge(root.get("age"), 30);
+
+    @Autowired
+    private PersonRepository repository;
+
+    @Test
+    void countsEachGroupUnderTheFilter() {
+        Map<Object, Long> expected = repository.findAll(ADULTS).stream()
+                .collect(Collectors.groupingBy(Person::getStatus, Collectors.counting()));
+
+        Map<String, Map<Object, Number>> facets = repository.facets(ADULTS, DynamicFacet.count("status"));
+
+        assertThat(facets).containsOnlyKeys("status");
+        assertThat(facets.get("status")).hasSize(expected.size());
+        expected.forEach((status, count) -> assertThat(facets.get("status").get(status).longValue()).isEqualTo(count));
+    }
+
+    @Test
+    @Transactional(readOnly = true)
+    void aggregatesAMeasureGroupedByANestedAttribute() {
+        Map<Object, Long> expected = repository.findAll(ADULTS).stream()
+                .collect(Collectors.groupingBy(person -> person.getCity().getState(), Collectors.summingLong(Person::getAge)));
+
+        DynamicFacet facet = DynamicFacet.of("city.state", Aggregate.SUM, "age");
+        Map<String, Map<Object, Number>> facets = repository.facets(ADULTS, facet);
+
+        assertThat(facets).containsOnlyKeys("city.state:sum:age");
+        assertThat(facets.get(facet.name())).hasSize(expected.size());
+        expected.forEach((state, sum) -> assertThat(facets.get(facet.name()).get(state).longValue()).isEqualTo(sum));
+    }
+
+    @Test
+    void ordersTheGroupsByTheAggregate() {
+        Map<Object, Number> groups = repository.facets(null, DynamicFacet.count("status")).get("status");
+
+        assertThat(groups.values().stream().map(Number::longValue).toList()).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+    }
+}
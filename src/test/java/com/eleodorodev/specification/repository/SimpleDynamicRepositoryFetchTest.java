@@ -0,0 +1,71 @@
+package com.eleodorodev.specification.repository;
+
+import com.eleodorodev.specification.DynamicSpecification;
+import com.eleodorodev.specification.annotation.DynamicSpecAttr;
+import com.eleodorodev.specification.enums.JoinMode;
+import com.eleodorodev.specification.fixture.FixtureTest;
+import com.eleodorodev.specification.fixture.Person;
+import com.eleodorodev.specification.fixture.PersonRepository;
+import com.eleodorodev.specification.fixture.SqlCapture;
+import com.eleodorodev.specification.params.DynamicArgs;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fetch joins requested by the filters and by the arguments
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ */
+@FixtureTest
+@Transactional(readOnly = true)
+class SimpleDynamicRepositoryFetchTest {
+
+    static class StateFilter {
+        @DynamicSpecAttr(property = "state", parents = "city", fetch = true)
+        private String state;
+    }
+
+    static class PhoneFilter {
+        @DynamicSpecAttr(property = "kind", parents = "phones", join = JoinMode.JOIN)
+        private String kind;
+    }
+
+    @Autowired
+    private PersonRepository repository;
+
+    @BeforeEach
+    void clear() {
+        SqlCapture.clear();
+    }
+
+    @Test
+    void loadsTheDeclaredAssociationInTheSameStatement() {
+        List<Person> persons = repository.findAll(DynamicSpecification.<Person, StateFilter>bind(StateFilter.class,
+                DynamicArgs.instance().withParams("state", "SP")), Sort.by("id"));
+
+        assertThat(persons).hasSize(40).allMatch(person -> Hibernate.isInitialized(person.getCity()))
+                .allMatch(person -> person.getCity().getState().equals("SP"));
+        assertThat(SqlCapture.statements()).hasSize(1);
+        assertThat(SqlCapture.statements().get(0).split("join city", -1)).hasSize(3);
+    }
+
+    @Test
+    void neverTruncatesAFetchedCollectionByTheFilter() {
+        DynamicArgs args = DynamicArgs.instance().withParams("kind", "MOBILE").fetch(Set.of("phones"));
+
+        List<Person> persons = repository.findAll(DynamicSpecification.<Person, PhoneFilter>bind(PhoneFilter.class, args));
+
+        assertThat(persons).hasSize(60).allMatch(person -> Hibernate.isInitialized(person.getPhones()))
+                .allMatch(person -> person.getPhones().size() == 2);
+        assertThat(SqlCapture.statements()).hasSize(1);
+    }
+}
@@ -0,0 +1,69 @@
+package com.eleodorodev.specification.repository;
+
+import com.eleodorodev.specification.fixture.FixtureTest;
+import com.eleodorodev.specification.fixture.Person;
+import com.eleodorodev.specification.fixture.PersonRepository;
+import com.eleodorodev.specification.fixture.SqlCapture;
+import jakarta.persistence.criteria.JoinType;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Ids-first pagination through the repository proxy
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ */
+@FixtureTest
+@Transactional(readOnly = true)
+class SimpleDynamicRepositoryIdsFirstTest {
+
+    /**
+     * Joins the phones, repeating each person once per phone
+     */
+    private static final Specification<Person> WITH_MOBILE = (root, query, builder) ->
+            builder.equal(root.join("phones", JoinType.INNER).get("kind"), "MOBILE");
+
+    @Autowired
+    private PersonRepository repository;
+
+    @Test
+    void pagesInTheDatabaseWithTheCollectionFetched() {
+        List<Long> expected = repository.findAll(WITH_MOBILE).stream()
+                .sorted(Comparator.comparing(Person::getName).thenComparing(Person::getId))
+                .map(Person::getId)
+                .distinct()
+                .skip(10)
+                .limit(10)
+                .toList();
+
+        SqlCapture.clear();
+        Page<Person> page = repository.findAllByIdsFirst(WITH_MOBILE, PageRequest.of(1, 10, Sort.by("name")), "phones");
+
+        assertThat(page.getContent()).extracting(Person::getId).containsExactlyElementsOf(expected);
+        assertThat(page.getTotalElements()).isEqualTo(60);
+        assertThat(page.getContent()).allMatch(person -> Hibernate.isInitialized(person.getPhones()));
+        assertThat(SqlCapture.statements()).hasSize(3);
+        assertThat(SqlCapture.statements().getFirst()).contains("group by").containsAnyOf("fetch first", "offset", "limit");
+    }
+
+    @Test
+    void skipsTheEntityQueryForAnEmptyPage() {
+        SqlCapture.clear();
+        Page<Person> page = repository.findAllByIdsFirst(WITH_MOBILE, PageRequest.of(10, 10), "phones");
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isEqualTo(60);
+        assertThat(SqlCapture.statements()).hasSize(2);
+    }
+}
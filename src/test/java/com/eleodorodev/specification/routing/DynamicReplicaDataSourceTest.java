@@ -0,0 +1,92 @@
+package com.eleodorodev.specification.routing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routing of the read-only connections to the replica and the fallback to the primary
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ */
+class DynamicReplicaDataSourceTest {
+
+    private final DataSource primary = database("primary");
+    private final DataSource replica = database("replica");
+    private DynamicReplicaDataSource dataSource;
+
+    @AfterEach
+    void close() {
+        if (dataSource != null) dataSource.close();
+    }
+
+    @Test
+    void readsFromTheReplicaAndWritesToThePrimary() throws SQLException {
+        dataSource = new DynamicReplicaDataSource(primary, replica, null, null, Duration.ofSeconds(1), Duration.ofMinutes(1));
+
+        assertThat(origin(true)).isEqualTo("replica");
+        assertThat(origin(false)).isEqualTo("primary");
+        assertThat(dataSource.isReplicaAvailable()).isTrue();
+    }
+
+    @Test
+    void readsFromThePrimaryWhileTheReplicaIsUnavailable() throws SQLException {
+        DataSource unavailable = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";IFEXISTS=TRUE", "sa", "");
+        dataSource = new DynamicReplicaDataSource(primary, unavailable, null, null, Duration.ofSeconds(1), Duration.ofMinutes(1));
+
+        assertThat(origin(true)).isEqualTo("primary");
+        assertThat(dataSource.isReplicaAvailable()).isFalse();
+    }
+
+    @Test
+    void readsFromThePrimaryWhileTheReplicaLagsBehind() throws SQLException {
+        dataSource = new DynamicReplicaDataSource(primary, replica, Duration.ofSeconds(5), "SELECT 10",
+                Duration.ofMinutes(1), Duration.ofMinutes(1));
+
+        assertThat(origin(true)).isEqualTo("primary");
+        assertThat(dataSource.isReplicaAvailable()).isFalse();
+    }
+
+    @Test
+    void readsFromTheReplicaWithinTheLagLimit() throws SQLException {
+        dataSource = new DynamicReplicaDataSource(primary, replica, Duration.ofSeconds(5), "SELECT 1",
+                Duration.ofMinutes(1), Duration.ofMinutes(1));
+
+        assertThat(origin(true)).isEqualTo("replica");
+    }
+
+    /**
+     * Name of the database serving a connection, the read-only flag is set before the first statement
+     */
+    private String origin(boolean readOnly) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(readOnly);
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("SELECT name FROM origin")) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        }
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE origin (name VARCHAR(20))");
+            statement.execute("INSERT INTO origin VALUES ('" + name + "')");
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        return dataSource;
+    }
+}
@@ -0,0 +1,108 @@
+package com.eleodorodev.specification.temporal;
+
+import com.eleodorodev.specification.DynamicSpecification;
+import com.eleodorodev.specification.annotation.DynamicSpecAttr;
+import com.eleodorodev.specification.enums.Conditional;
+import com.eleodorodev.specification.exception.DynamicParamArgumentException;
+import com.eleodorodev.specification.fixture.FixtureTest;
+import com.eleodorodev.specification.fixture.Person;
+import com.eleodorodev.specification.fixture.PersonRepository;
+import com.eleodorodev.specification.fixture.SqlCapture;
+import com.eleodorodev.specification.params.DynamicArgs;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Temporal conditionals as half-open ranges on the raw columns. The fixture creates a person every 13 hours from
+ * 2024-01-01T00:00Z and is born every 30 days from 1980-01-01
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ */
+@FixtureTest
+class DynamicTemporalTest {
+
+    static class UtcFilter {
+        @DynamicSpecAttr(property = "createdAt", zone = "UTC")
+        private String createdAt;
+
+        @DynamicSpecAttr(property = "birthDate", zone = "UTC")
+        private String birthDate;
+    }
+
+    static class SaoPauloFilter {
+        @DynamicSpecAttr(property = "createdAt", zone = "America/Sao_Paulo")
+        private String createdAt;
+    }
+
+    @Autowired
+    private PersonRepository repository;
+
+    @BeforeEach
+    void clear() {
+        SqlCapture.clear();
+    }
+
+    @AfterEach
+    void resetClock() {
+        DynamicTemporal.clock(Clock.systemUTC());
+    }
+
+    @Test
+    void comparesTheRawColumnWithTheBoundsOfTheDay() {
+        assertThat(count(UtcFilter.class, "createdAt", "2024-01-02", Conditional.ON)).isEqualTo(2);
+        assertThat(SqlCapture.statements()).singleElement().asString()
+                .contains("created_at>=?", "created_at<?")
+                .doesNotContain("cast(", " like ");
+    }
+
+    @Test
+    void evaluatesTheDayInTheZoneOfTheColumn() {
+        // 2024-01-02 in Sao Paulo is [03:00Z, 03:00Z next day), leaving out the person created at 02:00Z
+        assertThat(count(SaoPauloFilter.class, "createdAt", "2024-01-02", Conditional.ON)).isEqualTo(1);
+    }
+
+    @Test
+    void filtersTheMonth() {
+        assertThat(count(UtcFilter.class, "createdAt", "2024-01", Conditional.IM)).isEqualTo(57);
+        assertThat(count(UtcFilter.class, "birthDate", "1980-03", Conditional.IM)).isEqualTo(2);
+    }
+
+    @Test
+    void filtersTheLastDaysIncludingToday() {
+        DynamicTemporal.clock(Clock.fixed(Instant.parse("2024-01-03T12:00:00Z"), ZoneOffset.UTC));
+
+        assertThat(count(UtcFilter.class, "createdAt", "2", Conditional.LD)).isEqualTo(4);
+    }
+
+    @Test
+    void filtersOpenAndClosedRanges() {
+        assertThat(count(UtcFilter.class, "createdAt", "2024-01-02,2024-01-03", Conditional.RG)).isEqualTo(2);
+        assertThat(count(UtcFilter.class, "createdAt", "2024-01-02T02:00Z,2024-01-02T03:00Z", Conditional.RG)).isEqualTo(1);
+        assertThat(count(UtcFilter.class, "createdAt", "2024-02-01,", Conditional.RG)).isEqualTo(43);
+        assertThat(count(UtcFilter.class, "birthDate", ",1980-03-01T12:00", Conditional.RG)).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsValuesThatAreNotDates() {
+        // translated by the repository proxy
+        assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+                .isThrownBy(() -> count(UtcFilter.class, "createdAt", "yesterday", Conditional.ON))
+                .withCauseInstanceOf(DynamicParamArgumentException.class)
+                .withMessageContaining("temporal conditional ON");
+    }
+
+    private <T> long count(Class<T> filter, String property, String value, Conditional conditional) {
+        DynamicArgs args = DynamicArgs.instance().search(true).withParams(property, value, conditional);
+        return repository.count(DynamicSpecification.<Person, T>bind(filter, args));
+    }
+}
@@ -0,0 +1,103 @@
+package com.eleodorodev.specification.warmup;
+
+import com.eleodorodev.specification.annotation.DynamicSpecAttr;
+import com.eleodorodev.specification.enums.Conditional;
+import com.eleodorodev.specification.fixture.FixtureTest;
+import com.eleodorodev.specification.fixture.Person;
+import com.eleodorodev.specification.fixture.SqlCapture;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Warm-up of the filter shapes declared in a DTO
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ */
+@FixtureTest
+@TestPropertySource(properties = {
+        "dynamic-specification.warm-up.enabled=true",
+        "dynamic-specification.warm-up.filters[0].entity=com.eleodorodev.specification.fixture.Person",
+        "dynamic-specification.warm-up.filters[0].annotated=com.eleodorodev.specification.warmup.DynamicWarmUpTest$PersonFilter"
+})
+class DynamicWarmUpTest {
+
+    /**
+     * Filter declared in a DTO, the temporal property only accepts the temporal conditionals
+     */
+    static class PersonFilter {
+        @DynamicSpecAttr(property = "name", conditional = Conditional.LK)
+        private String name;
+
+        @DynamicSpecAttr(property = "age", conditional = Conditional.GTE)
+        private Long age;
+
+        @DynamicSpecAttr(property = "state", parents = "city")
+        private String state;
+
+        @DynamicSpecAttr(property = "birthDate", conditional = Conditional.IM)
+        private String birthDate;
+    }
+
+    @Autowired
+    private DynamicWarmUp warmUp;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Test
+    void warmsUpTheConfiguredFiltersWhenReady() {
+        assertThat(warmUp.getReport()).isNotNull();
+        assertThat(warmUp.getReport().shapes()).isEqualTo(4);
+        assertThat(warmUp.getReport().skipped()).isZero();
+    }
+
+    @Test
+    void runsEachSelectWithASingleRowLimit() {
+        DynamicWarmUp executed = warmUp(true);
+
+        assertThat(executed.getReport().shapes()).isEqualTo(4);
+        assertThat(SqlCapture.statements()).hasSize(4)
+                .allMatch(sql -> sql.startsWith("select ") && (sql.contains("fetch first") || sql.contains("limit")))
+                .noneMatch(sql -> sql.contains("count("));
+    }
+
+    @Test
+    void onlyBuildsTheQueriesWhenNotExecuted() {
+        DynamicWarmUp built = warmUp(false);
+
+        assertThat(built.getReport().shapes()).isEqualTo(4);
+        assertThat(SqlCapture.statements()).isEmpty();
+    }
+
+    @Test
+    void skipsTheConditionalsNotSupportedByTheAttribute() {
+        DynamicWarmUp ranges = new DynamicWarmUp(entityManagerFactory, List.of(new DynamicWarmUp.Target(Person.class, PersonFilter.class)),
+                Set.of(Conditional.BW), true, Duration.ofSeconds(1));
+        ranges.onApplicationEvent(new ApplicationReadyEvent(new SpringApplication(), new String[0], context, Duration.ZERO));
+
+        assertThat(ranges.getReport().shapes()).isEqualTo(1);
+        assertThat(ranges.getReport().skipped()).isEqualTo(3);
+    }
+
+    private DynamicWarmUp warmUp(boolean execute) {
+        DynamicWarmUp warmUp = new DynamicWarmUp(entityManagerFactory, List.of(new DynamicWarmUp.Target(Person.class, PersonFilter.class)),
+                Set.of(), execute, Duration.ofSeconds(1));
+        SqlCapture.clear();
+        warmUp.onApplicationEvent(new ApplicationReadyEvent(new SpringApplication(), new String[0], context, Duration.ZERO));
+        return warmUp;
+    }
+}
@@ -0,0 +1,122 @@
+package com.eleodorodev.specification.web.reactive;
+
+import com.eleodorodev.specification.DynamicSpecification;
+import com.eleodorodev.specification.annotation.DynamicSpecAttr;
+import com.eleodorodev.specification.fixture.FixtureTest;
+import com.eleodorodev.specification.fixture.Person;
+import com.eleodorodev.specification.fixture.PersonRepository;
+import com.eleodorodev.specification.fixture.SqlCapture;
+import com.eleodorodev.specification.params.DynamicArgs;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pages of the repository emitted as a backpressured {@link reactor.core.publisher.Flux}
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ */
+@FixtureTest
+class DynamicReactiveExecutorTest {
+
+    static class StatusFilter {
+        @DynamicSpecAttr(property = "status")
+        private String status;
+    }
+
+    private static final PageRequest FIRST = PageRequest.of(0, 10, Sort.by("id"));
+
+    private final DynamicReactiveExecutor executor = new DynamicReactiveExecutor();
+
+    @Autowired
+    private PersonRepository repository;
+
+    @BeforeEach
+    void clear() {
+        SqlCapture.clear();
+    }
+
+    @Test
+    void emitsEveryPageOffTheCallerThread() {
+        List<String> threads = new CopyOnWriteArrayList<>();
+
+        List<Person> persons = executor.stream(repository, StatusFilter.class, active(), FIRST)
+                .doOnNext(person -> threads.add(Thread.currentThread().getName()))
+                .collectList().block(Duration.ofSeconds(10));
+
+        assertThat(persons).extracting(Person::getId).containsExactlyElementsOf(repository.findAll(
+                DynamicSpecification.<Person, StatusFilter>bind(StatusFilter.class, active()), Sort.by("id")).stream()
+                .map(Person::getId).toList());
+        assertThat(persons).hasSize(33);
+        assertThat(threads).allMatch(name -> name.startsWith("boundedElastic"));
+    }
+
+    @Test
+    void queriesEachPageOnlyWhenRequested() throws Exception {
+        PageSubscriber subscriber = new PageSubscriber();
+        executor.pages(repository, StatusFilter.class, active(), FIRST).subscribe(subscriber);
+
+        subscriber.request(1);
+        assertThat(subscriber.pages.poll(5, TimeUnit.SECONDS)).isNotNull();
+        Thread.sleep(200);
+        // the select and the count of the first page only
+        assertThat(SqlCapture.statements()).hasSize(2);
+        assertThat(subscriber.pages).isEmpty();
+
+        subscriber.request(1);
+        Page<Person> second = subscriber.pages.poll(5, TimeUnit.SECONDS);
+        assertThat(second).isNotNull();
+        assertThat(second.getNumber()).isEqualTo(1);
+        assertThat(SqlCapture.statements()).hasSize(4);
+
+        subscriber.cancel();
+        Thread.sleep(200);
+        assertThat(subscriber.pages).isEmpty();
+    }
+
+    @Test
+    void loadsTheFetchesOfTheArgumentsByIdsFirst() {
+        List<Person> persons = executor.stream(repository, StatusFilter.class, active().fetch(Set.of("city")), FIRST)
+                .take(5).collectList().block(Duration.ofSeconds(10));
+
+        assertThat(persons).hasSize(5).allMatch(person -> Hibernate.isInitialized(person.getCity()));
+    }
+
+    private static DynamicArgs active() {
+        return DynamicArgs.instance().withParams("status", "ACTIVE");
+    }
+
+    /**
+     * Subscriber requesting the pages one by one
+     */
+    private static class PageSubscriber extends BaseSubscriber<Page<Person>> {
+
+        private final BlockingQueue<Page<Person>> pages = new LinkedBlockingQueue<>();
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            // requested by the test
+        }
+
+        @Override
+        protected void hookOnNext(Page<Person> page) {
+            pages.add(page);
+        }
+    }
+}
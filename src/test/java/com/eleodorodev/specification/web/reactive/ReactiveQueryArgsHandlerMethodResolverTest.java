@@ -0,0 +1,92 @@
+package com.eleodorodev.specification.web.reactive;
+
+import com.eleodorodev.specification.contains.ContainsStrategies;
+import com.eleodorodev.specification.cost.DynamicCostModel;
+import com.eleodorodev.specification.enums.Conditional;
+import com.eleodorodev.specification.exception.DynamicParamArgumentException;
+import com.eleodorodev.specification.exception.DynamicParamValidationException;
+import com.eleodorodev.specification.params.DynamicArgs;
+import com.eleodorodev.specification.params.DynamicArgsConverter;
+import com.eleodorodev.specification.params.annotation.DynamicParam;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.BindingContext;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Resolution of the {@link DynamicArgs} from the query string of a WebFlux exchange
+ *
+ * @author <a href="https://github.com/MatheusEleodoro">Matheus Eleodoro</a>
+ */
+class ReactiveQueryArgsHandlerMethodResolverTest {
+
+    private final DynamicArgsConverter converter = new DynamicArgsConverter(16);
+    private final ReactiveQueryArgsHandlerMethodResolver resolver = new ReactiveQueryArgsHandlerMethodResolver(
+            DynamicCostModel.DEFAULT, ContainsStrategies.DEFAULT, converter);
+
+    @Test
+    void supportsTheAnnotatedArguments() {
+        assertThat(resolver.supportsParameter(parameter("search", 0))).isTrue();
+        assertThat(resolver.supportsParameter(parameter("search", 1))).isFalse();
+        assertThat(resolver.supportsParameter(parameter("plain", 0))).isFalse();
+    }
+
+    @Test
+    void readsTheQueryStringOfTheExchange() {
+        DynamicArgs args = resolve("search", "/persons?q=status=ACTIVE&age=30;GTE&name=ana").block();
+
+        assertThat(args).isNotNull();
+        assertThat(args.search()).isTrue();
+        assertThat(args.timeout()).isEqualTo(500);
+        assertThat(args.arg("status").value()).isEqualTo("ACTIVE");
+        assertThat(args.arg("age").conditional()).isEqualTo(Conditional.GTE);
+        assertThat(converter.cacheStats().misses()).isEqualTo(1);
+    }
+
+    @Test
+    void parsesOnlyWhenSubscribed() {
+        Mono<DynamicArgs> args = resolve("search", "/persons");
+
+        assertThat(converter.cacheStats().misses()).isZero();
+        assertThatExceptionOfType(DynamicParamArgumentException.class).isThrownBy(args::block)
+                .withMessageContaining("'q' not found");
+    }
+
+    @Test
+    void validatesTheMandatoryKeys() {
+        assertThatExceptionOfType(DynamicParamValidationException.class)
+                .isThrownBy(() -> resolve("mandatory", "/persons?q=name=ana").block());
+        assertThat(resolve("mandatory", "/persons?q=status=ACTIVE").block()).isNotNull();
+    }
+
+    private Mono<DynamicArgs> resolve(String method, String uri) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(uri));
+        return resolver.resolveArgument(parameter(method, 0), new BindingContext(), exchange).cast(DynamicArgs.class);
+    }
+
+    private static MethodParameter parameter(String method, int index) {
+        try {
+            return new MethodParameter(ReactiveQueryArgsHandlerMethodResolverTest.class
+                    .getDeclaredMethod(method, DynamicArgs.class, String.class), index);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private void search(@DynamicParam(search = true, timeout = 500) DynamicArgs args, @DynamicParam String other) {
+    }
+
+    @SuppressWarnings("unused")
+    private void mandatory(@DynamicParam(mandatory = "status") DynamicArgs args, String other) {
+    }
+
+    @SuppressWarnings("unused")
+    private void plain(DynamicArgs args, String other) {
+    }
+}
@@ -0,0 +1,20 @@
+-- 5 cities, even ids in SP and odd ones in RJ
+INSERT INTO city (id, name, state)
+SELECT x, 'City ' || x, CASE MOD(x, 2) WHEN 0 THEN 'SP' ELSE 'RJ' END FROM SYSTEM_RANGE(1, 5);
+
+-- 100 people spread over the cities, statuses, ages and dates
+INSERT INTO person (id, name, email, age, status, created_at, birth_date, city_id)
+SELECT x,
+       'Person ' || x,
+       'person' || x || CASE MOD(x, 3) WHEN 0 THEN '@gmail.com' ELSE '@mail.com' END,
+       18 + MOD(x, 50),
+       CASE MOD(x, 3) WHEN 0 THEN 'ACTIVE' WHEN 1 THEN 'INACTIVE' ELSE 'BLOCKED' END,
+       DATEADD('HOUR', x * 13, TIMESTAMP WITH TIME ZONE '2024-01-01 00:00:00+00:00'),
+       DATEADD('DAY', x * 30, DATE '1980-01-01'),
+       1 + MOD(x, 5)
+FROM SYSTEM_RANGE(1, 100);
+
+-- the first 60 people have a mobile and a home phone
+INSERT INTO phone (id, phone_number, kind, person_id)
+SELECT x, '555-' || x, CASE WHEN x <= 60 THEN 'MOBILE' ELSE 'HOME' END, 1 + MOD(x - 1, 60)
+FROM SYSTEM_RANGE(1, 120);